@@ -0,0 +1,40 @@
+// k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> docs/loadtest/feed.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+
+export const options = {
+    scenarios: {
+        feed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: 200 },
+                { duration: '3m', target: 1000 },
+                { duration: '1m', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500', 'p(99)<1500'],
+    },
+};
+
+const params = TOKEN ? { headers: { Authorization: `Bearer ${TOKEN}` } } : {};
+
+export default function () {
+
+    const products = http.get(`${BASE_URL}/v1/products?page=1`, params);
+    check(products, { 'products 200': (r) => r.status === 200 });
+
+    const posts = http.get(`${BASE_URL}/v1/posts?page=1`, params);
+    check(posts, { 'posts 200': (r) => r.status === 200 });
+
+    if (TOKEN) {
+        const chatRooms = http.get(`${BASE_URL}/v1/chatroom`, params);
+        check(chatRooms, { 'chatroom 200': (r) => r.status === 200 });
+    }
+}
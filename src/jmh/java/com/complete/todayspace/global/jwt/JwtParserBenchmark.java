@@ -0,0 +1,99 @@
+package com.complete.todayspace.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 파서를 만드는 기존 방식(기준)과 실제 JwtProvider.getClaimsFromToken 의 캐시 적중 / 미적중 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParserBenchmark {
+
+    private static final int MISS_TOKENS = 1024;
+
+    private Key key;
+    private String token;
+    private JwtProvider jwtProvider;
+    // 캐시 크기 1 로 두고 토큰을 돌려 쓰면서 대부분 서명 검증을 거치게 함
+    private JwtProvider missProvider;
+    private String[] missTokens;
+    private int next;
+
+    @Setup
+    public void setup() {
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String secretKey = Base64.getEncoder().encodeToString(secret);
+        key = Keys.hmacShaKeyFor(secret);
+
+        jwtProvider = createProvider(secretKey, 10000);
+        missProvider = createProvider(secretKey, 1);
+
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        token = jwtProvider.generateToken("benchmark", "USER", 1L, expiration);
+        jwtProvider.getClaimsFromToken(token);
+
+        missTokens = new String[MISS_TOKENS];
+        for (int i = 0; i < MISS_TOKENS; i++) {
+            missTokens[i] = missProvider.generateToken("benchmark", "USER", (long) i, expiration);
+        }
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims getClaimsFromToken() {
+        return jwtProvider.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public Claims getClaimsFromTokenMiss() {
+        next = (next + 1) % MISS_TOKENS;
+        return missProvider.getClaimsFromToken(missTokens[next]);
+    }
+
+    // 스프링 없이 @Value 필드를 채우고 @PostConstruct 를 호출
+    private JwtProvider createProvider(String secretKey, long claimsCacheMaxSize) {
+
+        JwtProvider provider = new JwtProvider();
+        setField(provider, "secretKey", secretKey);
+        setField(provider, "accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        setField(provider, "refreshTokenExpiration", TimeUnit.DAYS.toMillis(14));
+        setField(provider, "claimsCacheTtlSeconds", 60L);
+        setField(provider, "claimsCacheMaxSize", claimsCacheMaxSize);
+        provider.init();
+
+        return provider;
+    }
+
+    private void setField(JwtProvider provider, String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, provider, value);
+    }
+
+}
@@ -2,7 +2,9 @@ package com.complete.todayspace.domain.chat.controller;
 
 import com.complete.todayspace.domain.chat.dto.ChatMessageRequestDto;
 import com.complete.todayspace.domain.chat.dto.ChatMessageResponseDto;
+import com.complete.todayspace.domain.chat.service.ChatMessageRelay;
 import com.complete.todayspace.domain.chat.service.ChatMessageService;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import com.complete.todayspace.global.dto.DataResponseDto;
 import com.complete.todayspace.global.entity.SuccessCode;
 import com.complete.todayspace.global.security.UserDetailsImpl;
@@ -11,14 +13,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.security.Principal;
 
 @RestController
 @RequestMapping("/v1")
@@ -26,20 +29,28 @@ import java.util.List;
 public class ChatMessageController {
 
     private final ChatMessageService chatMessageService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ChatMessageRelay chatMessageRelay;
+
+    private static final int MAX_MESSAGE_SIZE = 100;
 
     @GetMapping("/chatroom/{roomId}/message")
-    public ResponseEntity<DataResponseDto<List<ChatMessageResponseDto>>> getMessageForChatRoom(
+    public ResponseEntity<DataResponseDto<CursorResponseDto<ChatMessageResponseDto>>> getMessageForChatRoom(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @PathVariable String roomId
+            @PathVariable String roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
     ) {
 
-        List<ChatMessageResponseDto> responseDto = chatMessageService.getMessageForChatRoom(
+        CursorResponseDto<ChatMessageResponseDto> responseDto = chatMessageService.getMessageForChatRoom(
                 userDetails.getUser().getId(),
-                roomId
+                roomId,
+                before,
+                after,
+                Math.min(Math.max(size, 1), MAX_MESSAGE_SIZE)
         );
 
-        DataResponseDto<List<ChatMessageResponseDto>> dataResponseDto = new DataResponseDto<>(
+        DataResponseDto<CursorResponseDto<ChatMessageResponseDto>> dataResponseDto = new DataResponseDto<>(
                 SuccessCode.GET_MESSAGE_FOR_CHAT_ROOM,
                 responseDto
         );
@@ -48,15 +59,26 @@ public class ChatMessageController {
     }
 
     @MessageMapping("/chatroom/{roomId}")
-    public void sendMessage(@DestinationVariable String roomId, ChatMessageRequestDto requestDto) {
-
-        chatMessageService.sendMessage(requestDto);
+    public void sendMessage(@DestinationVariable String roomId, ChatMessageRequestDto requestDto, Principal principal) {
 
         roomMessageTemplate(roomId, requestDto);
+
+        chatMessageService.sendMessage(roomId, requestDto, getUserId(principal));
+    }
+
+    // ChatChannelInterceptor 에서 CONNECT 시 설정한 사용자 id
+    private Long getUserId(Principal principal) {
+
+        if (principal instanceof UsernamePasswordAuthenticationToken authentication
+                && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+
+        return null;
     }
 
     private void roomMessageTemplate(String roomId, ChatMessageRequestDto requestDto) {
-        simpMessagingTemplate.convertAndSend("/v1/sub/chatroom/" + roomId, requestDto);
+        chatMessageRelay.publish(roomId, requestDto);
     }
 
 }
@@ -29,7 +29,7 @@ public class ChatRoomController {
             @Valid @RequestBody ChatRoomRequestDto requestDto
     ) {
 
-        chatRoomService.enterChatRoom(userDetails.getUser().getId(), requestDto);
+        chatRoomService.enterChatRoom(userDetails.getUser().getId(), userDetails.getUsername(), requestDto);
 
         StatusResponseDto responseDto = new StatusResponseDto(SuccessCode.ENTER_CHAT_ROOM);
 
@@ -10,11 +10,13 @@ public class ChatMessageResponseDto {
     private final String sender;
     private final String message;
     private final LocalDateTime sendDate;
+    private final String cursor;
 
-    public ChatMessageResponseDto(String sender, String message, LocalDateTime sendDate) {
+    public ChatMessageResponseDto(String sender, String message, LocalDateTime sendDate, String cursor) {
         this.sender = sender;
         this.message = message;
         this.sendDate = sendDate;
+        this.cursor = cursor;
     }
 
 }
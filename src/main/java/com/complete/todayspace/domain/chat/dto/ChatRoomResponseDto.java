@@ -3,12 +3,17 @@ package com.complete.todayspace.domain.chat.dto;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class ChatRoomResponseDto {
 
     private final String roomId;
     private final String username;
     private final String profileImage;
+    private String lastMessage;
+    private LocalDateTime lastSendDate;
+    private long unreadCount;
 
     @QueryProjection
     public ChatRoomResponseDto(String roomId, String username, String profileImage) {
@@ -17,4 +22,10 @@ public class ChatRoomResponseDto {
         this.profileImage = profileImage;
     }
 
+    public void updateSummary(String lastMessage, LocalDateTime lastSendDate, long unreadCount) {
+        this.lastMessage = lastMessage;
+        this.lastSendDate = lastSendDate;
+        this.unreadCount = unreadCount;
+    }
+
 }
@@ -3,13 +3,15 @@ package com.complete.todayspace.domain.chat.entity;
 import jakarta.persistence.Id;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "table_chat")
+@CompoundIndex(name = "idx_chat_room_id_send_date", def = "{'roomId': 1, 'sendDate': -1, '_id': -1}")
 @Getter
 @NoArgsConstructor
 public class ChatMessage {
@@ -26,14 +28,17 @@ public class ChatMessage {
     @Field
     private String message;
 
+    // 저장은 나중에 batch 로 처리되므로 생성 시점을 보낸 시각으로 사용
     @Field
-    @CreatedDate
     private LocalDateTime sendDate;
 
+    // 저장 재시도가 중복 저장되지 않도록 id 를 미리 발급
     public ChatMessage(String roomId, String sender, String message) {
+        this.id = new ObjectId().toHexString();
         this.roomId = roomId;
         this.sender = sender;
         this.message = message;
+        this.sendDate = LocalDateTime.now();
     }
 
 }
@@ -0,0 +1,120 @@
+package com.complete.todayspace.domain.chat.interceptor;
+
+import com.complete.todayspace.domain.chat.service.ChatMessageRelay;
+import com.complete.todayspace.domain.chat.service.ChatRoomMembership;
+import com.complete.todayspace.global.exception.ErrorCode;
+import com.complete.todayspace.global.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// CONNECT 시 토큰으로 사용자를 확인하고, 채팅방 SUBSCRIBE / SEND 는 참여자만 허용 (DB 대신 ChatRoomMembership 사용)
+@Component
+@RequiredArgsConstructor
+public class ChatChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BROKER_PREFIX = "/v1/sub";
+    private static final String SEND_PREFIX = "/v1/pub/chatroom/";
+    // simple broker 는 구독 경로를 AntPathMatcher 패턴으로 처리하므로 와일드카드 / 하위 경로를 허용하지 않음
+    private static final Pattern ROOM_ID_PATTERN = Pattern.compile("[^/*?{}]+");
+
+    private final JwtProvider jwtProvider;
+    private final ChatRoomMembership chatRoomMembership;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscribe(accessor);
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            authorizeSend(accessor);
+        }
+
+        return message;
+    }
+
+    private Principal authenticate(String authorization) {
+
+        String accessToken = jwtProvider.getAccessTokenFromAuthorization(authorization);
+
+        if (accessToken == null) {
+            return null;
+        }
+
+        try {
+            Claims claims = jwtProvider.getClaimsFromToken(accessToken);
+            return new UsernamePasswordAuthenticationToken(claims.get("id", Long.class), null, List.of());
+        } catch (JwtException e) {
+            throw new MessageDeliveryException(ErrorCode.INVALID_TOKEN.getMessage());
+        }
+    }
+
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+
+        String destination = accessor.getDestination();
+
+        if (destination == null || !destination.startsWith(BROKER_PREFIX)) {
+            return;
+        }
+
+        // broker 경로는 /v1/sub/chatroom/{roomId} 만 구독 가능
+        authorizeRoom(accessor, destination, ChatMessageRelay.DESTINATION_PREFIX);
+    }
+
+    // 메시지 전송은 로그인한 사용자가 참여 중인 방의 /v1/pub/chatroom/{roomId} 로만 가능
+    // (broker 경로로 직접 보내면 저장 없이 구독자에게 전달되므로 막음)
+    private void authorizeSend(StompHeaderAccessor accessor) {
+
+        String destination = accessor.getDestination();
+
+        if (destination == null) {
+            throw new MessageDeliveryException(ErrorCode.INVALID_URL_ACCESS.getMessage());
+        }
+
+        authorizeRoom(accessor, destination, SEND_PREFIX);
+    }
+
+    private void authorizeRoom(StompHeaderAccessor accessor, String destination, String prefix) {
+
+        if (!destination.startsWith(prefix)
+            || !ROOM_ID_PATTERN.matcher(destination.substring(prefix.length())).matches()) {
+            throw new MessageDeliveryException(ErrorCode.INVALID_URL_ACCESS.getMessage());
+        }
+
+        String roomId = destination.substring(prefix.length());
+
+        Principal user = accessor.getUser();
+
+        if (!(user instanceof UsernamePasswordAuthenticationToken authentication)
+            || !(authentication.getPrincipal() instanceof Long userId)) {
+            throw new MessageDeliveryException(ErrorCode.UNAUTHENTICATED.getMessage());
+        }
+
+        if (!chatRoomMembership.isMember(roomId, userId)) {
+            throw new MessageDeliveryException(ErrorCode.NO_CHAT_ROOM_OR_PERMISSION_DENIED.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.complete.todayspace.domain.chat.repository;
+
+import com.complete.todayspace.domain.chat.dto.ChatMessageResponseDto;
+import com.complete.todayspace.domain.chat.entity.ChatMessage;
+import com.complete.todayspace.global.dto.CursorResponseDto;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryQuery {
+
+    CursorResponseDto<ChatMessageResponseDto> findMessagesByCursor(String roomId, String before, String after, int size);
+
+    Map<String, ChatMessage> findLastMessagesByRoomIdIn(List<String> roomIds);
+
+}
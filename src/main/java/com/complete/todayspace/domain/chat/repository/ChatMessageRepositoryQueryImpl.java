@@ -0,0 +1,137 @@
+package com.complete.todayspace.domain.chat.repository;
+
+import com.complete.todayspace.domain.chat.dto.ChatMessageResponseDto;
+import com.complete.todayspace.domain.chat.entity.ChatMessage;
+import com.complete.todayspace.global.dto.CursorResponseDto;
+import com.complete.todayspace.global.exception.CustomException;
+import com.complete.todayspace.global.exception.ErrorCode;
+import com.complete.todayspace.global.valid.CursorValidation;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageRepositoryQueryImpl implements ChatMessageRepositoryQuery {
+
+    private final MongoTemplate mongoTemplate;
+
+    // before: 커서보다 이전 메시지, after: 커서 이후 메시지, 둘 다 없으면 최근 메시지
+    // 결과는 항상 오래된 순, nextCursor 는 요청한 방향으로 이어서 조회할 커서
+    @Override
+    public CursorResponseDto<ChatMessageResponseDto> findMessagesByCursor(String roomId, String before, String after,
+        int size) {
+
+        if (before != null && after != null) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        boolean forward = after != null;
+        Sort.Direction direction = forward ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+
+        if (before != null) {
+            criteria = criteria.andOperator(getCursorCondition(before, false));
+        } else if (after != null) {
+            criteria = criteria.andOperator(getCursorCondition(after, true));
+        }
+
+        Query query = new Query(criteria)
+            .with(Sort.by(direction, "sendDate").and(Sort.by(direction, "_id")))
+            .limit(size + 1);
+        query.fields().include("sender", "message", "sendDate");
+
+        List<ChatMessage> chatMessages = new ArrayList<>(mongoTemplate.find(query, ChatMessage.class));
+
+        boolean hasNext = chatMessages.size() > size;
+
+        if (hasNext) {
+            chatMessages = new ArrayList<>(chatMessages.subList(0, size));
+        }
+
+        String nextCursor = hasNext ? toCursor(chatMessages.get(chatMessages.size() - 1)) : null;
+
+        if (!forward) {
+            Collections.reverse(chatMessages);
+        }
+
+        List<ChatMessageResponseDto> messages = chatMessages.stream()
+            .map(chatMessage -> new ChatMessageResponseDto(
+                chatMessage.getSender(),
+                chatMessage.getMessage(),
+                chatMessage.getSendDate(),
+                toCursor(chatMessage)
+            ))
+            .toList();
+
+        return new CursorResponseDto<>(messages, nextCursor);
+    }
+
+    // 방별 가장 최근 메시지
+    // 정렬을 idx_chat_room_id_send_date (roomId, sendDate desc, _id desc) 순서와 맞춰야 메모리 정렬 없이
+    // 인덱스를 따라 읽고, $group + $first 가 방마다 첫 문서만 읽는 DISTINCT_SCAN 으로 처리됨
+    @Override
+    public Map<String, ChatMessage> findLastMessagesByRoomIdIn(List<String> roomIds) {
+
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("roomId").in(roomIds)),
+            Aggregation.sort(Sort.by(Sort.Direction.ASC, "roomId")
+                .and(Sort.by(Sort.Direction.DESC, "sendDate"))
+                .and(Sort.by(Sort.Direction.DESC, "_id"))),
+            Aggregation.group("roomId").first("$$ROOT").as("lastMessage"),
+            Aggregation.replaceRoot("lastMessage")
+        );
+
+        Map<String, ChatMessage> lastMessages = new HashMap<>();
+
+        mongoTemplate.aggregate(aggregation, ChatMessage.class, ChatMessage.class)
+            .forEach(chatMessage -> lastMessages.put(chatMessage.getRoomId(), chatMessage));
+
+        return lastMessages;
+    }
+
+    private Criteria getCursorCondition(String cursor, boolean forward) {
+
+        String[] values = CursorValidation.decodeCursor(cursor, 2);
+
+        try {
+
+            LocalDateTime sendDate = LocalDateTime.parse(values[0]);
+            ObjectId id = new ObjectId(values[1]);
+
+            if (forward) {
+                return new Criteria().orOperator(
+                    Criteria.where("sendDate").gt(sendDate),
+                    Criteria.where("sendDate").is(sendDate).and("_id").gt(id)
+                );
+            }
+
+            return new Criteria().orOperator(
+                Criteria.where("sendDate").lt(sendDate),
+                Criteria.where("sendDate").is(sendDate).and("_id").lt(id)
+            );
+
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private String toCursor(ChatMessage chatMessage) {
+        return CursorValidation.encodeCursor(chatMessage.getSendDate(), chatMessage.getId());
+    }
+
+}
@@ -3,8 +3,12 @@ package com.complete.todayspace.domain.chat.repository;
 import com.complete.todayspace.domain.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryQuery {
 
     boolean existsByRoomId(String roomId);
 
+    Optional<ChatRoom> findByRoomId(String roomId);
+
 }
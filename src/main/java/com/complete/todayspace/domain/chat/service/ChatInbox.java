@@ -0,0 +1,176 @@
+package com.complete.todayspace.domain.chat.service;
+
+import com.complete.todayspace.domain.chat.dto.ChatRoomResponseDto;
+import com.complete.todayspace.domain.chat.entity.ChatMessage;
+import com.complete.todayspace.domain.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 채팅방별 마지막 메시지 / 메시지 순번 / 사용자별 읽은 순번을 Redis hash 하나에 보관
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInbox {
+
+    private static final String KEY_PREFIX = "chat:room:summary:";
+    private static final String MESSAGE = "message";
+    private static final String SENDER = "sender";
+    private static final String SEND_DATE = "sendDate";
+    private static final String SEQ = "seq";
+    private static final String READ_PREFIX = "read:";
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+        "local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1) "
+            + "redis.call('HSET', KEYS[1], 'message', ARGV[1], 'sender', ARGV[2], 'sendDate', ARGV[3]) "
+            + "if ARGV[4] ~= '' then redis.call('HSET', KEYS[1], 'read:' .. ARGV[4], seq) end "
+            + "return seq",
+        Long.class);
+
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+        "local seq = redis.call('HGET', KEYS[1], 'seq') "
+            + "if not seq then return 0 end "
+            + "redis.call('HSET', KEYS[1], 'read:' .. ARGV[1], seq) "
+            + "return tonumber(seq)",
+        Long.class);
+
+    // 요약이 없는 기존 방은 마지막 메시지만 채우고 안 읽은 메시지는 0 부터 시작
+    // 메시지가 없는 방도 seq 0 만 남겨서 다음 조회 때 다시 집계하지 않도록 함
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+            + "if #ARGV == 0 then "
+            + "  redis.call('HSET', KEYS[1], 'seq', 0) "
+            + "  return 1 "
+            + "end "
+            + "redis.call('HSET', KEYS[1], 'message', ARGV[1], 'sender', ARGV[2], 'sendDate', ARGV[3], 'seq', 0) "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+
+    public void append(ChatMessage chatMessage, Long senderId) {
+
+        try {
+            redisTemplate.execute(APPEND_SCRIPT, List.of(KEY_PREFIX + chatMessage.getRoomId()),
+                chatMessage.getMessage(), chatMessage.getSender(), chatMessage.getSendDate().toString(),
+                senderId == null ? "" : senderId.toString());
+        } catch (DataAccessException e) {
+            log.warn("채팅방 요약 갱신 실패 - roomId: {}, {}", chatMessage.getRoomId(), e.getMessage());
+        }
+    }
+
+    public void markRead(String roomId, Long userId) {
+
+        try {
+            redisTemplate.execute(MARK_READ_SCRIPT, List.of(KEY_PREFIX + roomId), userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("채팅방 읽음 처리 실패 - roomId: {}, {}", roomId, e.getMessage());
+        }
+    }
+
+    // 채팅방 목록의 요약을 pipeline 한 번으로 채움
+    public void fill(List<ChatRoomResponseDto> chatRooms, Long userId) {
+
+        if (chatRooms.isEmpty()) {
+            return;
+        }
+
+        byte[][] fields = toBytes(MESSAGE, SEND_DATE, SEQ, READ_PREFIX + userId);
+
+        try {
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ChatRoomResponseDto chatRoom : chatRooms) {
+                    hMGet(connection, chatRoom.getRoomId(), fields);
+                }
+                return null;
+            });
+
+            List<String> missingRoomIds = new ArrayList<>();
+
+            for (int i = 0; i < chatRooms.size(); i++) {
+
+                List<?> values = (List<?>) results.get(i);
+
+                if (values == null || values.get(2) == null) {
+                    missingRoomIds.add(chatRooms.get(i).getRoomId());
+                    continue;
+                }
+
+                // 메시지가 없는 방
+                if (values.get(0) == null) {
+                    continue;
+                }
+
+                long seq = Long.parseLong(values.get(2).toString());
+                long read = values.get(3) == null ? 0 : Long.parseLong(values.get(3).toString());
+
+                chatRooms.get(i).updateSummary(
+                    values.get(0).toString(),
+                    LocalDateTime.parse(values.get(1).toString()),
+                    Math.max(seq - read, 0)
+                );
+            }
+
+            if (!missingRoomIds.isEmpty()) {
+                warm(chatRooms, missingRoomIds);
+            }
+
+        } catch (DataAccessException e) {
+            log.warn("채팅방 요약 조회 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void warm(List<ChatRoomResponseDto> chatRooms, List<String> roomIds) {
+
+        Map<String, ChatMessage> lastMessages = chatMessageRepository.findLastMessagesByRoomIdIn(roomIds);
+
+        for (ChatRoomResponseDto chatRoom : chatRooms) {
+
+            if (!roomIds.contains(chatRoom.getRoomId())) {
+                continue;
+            }
+
+            ChatMessage lastMessage = lastMessages.get(chatRoom.getRoomId());
+
+            if (lastMessage == null) {
+                redisTemplate.execute(WARM_SCRIPT, List.of(KEY_PREFIX + chatRoom.getRoomId()));
+                continue;
+            }
+
+            redisTemplate.execute(WARM_SCRIPT, List.of(KEY_PREFIX + chatRoom.getRoomId()),
+                lastMessage.getMessage(), lastMessage.getSender(), lastMessage.getSendDate().toString());
+
+            chatRoom.updateSummary(lastMessage.getMessage(), lastMessage.getSendDate(), 0);
+        }
+    }
+
+    private void hMGet(RedisConnection connection, String roomId, byte[][] fields) {
+        connection.hashCommands().hMGet((KEY_PREFIX + roomId).getBytes(StandardCharsets.UTF_8), fields);
+    }
+
+    private byte[][] toBytes(String... values) {
+
+        byte[][] bytes = new byte[values.length][];
+
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+
+        return bytes;
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.complete.todayspace.domain.chat.service;
+
+import com.complete.todayspace.domain.chat.dto.ChatMessageRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅 메시지를 Redis 채널로 발행하고, 이 서버에 구독자가 있는 방의 채널만 구독해서 로컬 브로커로 전달
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageRelay implements MessageListener {
+
+    public static final String DESTINATION_PREFIX = "/v1/sub/chatroom/";
+    private static final String CHANNEL_PREFIX = "chat:room:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 방별 로컬 구독 수
+    private final Map<String, Integer> roomSubscribers = new ConcurrentHashMap<>();
+    // 세션별 구독 id -> 방
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // Redis 채널을 구독 중인 방 (listenerLock 으로 보호)
+    private final Set<String> listeningRooms = new HashSet<>();
+    private final Object listenerLock = new Object();
+
+    public void publish(String roomId, ChatMessageRequestDto requestDto) {
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, objectMapper.writeValueAsString(requestDto));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("채팅 메시지 발행 실패 - 이 서버의 구독자에게만 전달합니다. {}", e.getMessage());
+            simpMessagingTemplate.convertAndSend(DESTINATION_PREFIX + roomId, requestDto);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String roomId = channel.substring(CHANNEL_PREFIX.length());
+
+        try {
+            ChatMessageRequestDto requestDto = objectMapper.readValue(message.getBody(), ChatMessageRequestDto.class);
+            simpMessagingTemplate.convertAndSend(DESTINATION_PREFIX + roomId, requestDto);
+        } catch (Exception e) {
+            log.warn("채팅 메시지 전달 실패 - roomId: {}, {}", roomId, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)
+            || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String roomId = destination.substring(DESTINATION_PREFIX.length());
+
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+            .put(accessor.getSubscriptionId(), roomId);
+
+        Integer count = roomSubscribers.merge(roomId, 1, Integer::sum);
+
+        if (count == 1) {
+            syncListener(roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+
+        if (subscriptions == null) {
+            return;
+        }
+
+        String roomId = subscriptions.remove(accessor.getSubscriptionId());
+
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(String roomId) {
+
+        Integer count = roomSubscribers.computeIfPresent(roomId, (key, current) -> current > 1 ? current - 1 : null);
+
+        if (count == null) {
+            syncListener(roomId);
+        }
+    }
+
+    // 0 -> 1, 1 -> 0 전환 시에만 호출 (Redis 구독 변경은 맵 잠금 밖에서 수행)
+    // 전환이 엇갈려도 최종 구독 수를 기준으로 맞추므로 리스너가 남거나 빠지지 않음
+    private void syncListener(String roomId) {
+
+        synchronized (listenerLock) {
+
+            boolean subscribed = roomSubscribers.containsKey(roomId);
+            ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + roomId);
+
+            if (subscribed && listeningRooms.add(roomId)) {
+                redisMessageListenerContainer.addMessageListener(this, topic);
+            } else if (!subscribed && listeningRooms.remove(roomId)) {
+                redisMessageListenerContainer.removeMessageListener(this, topic);
+            }
+        }
+    }
+
+}
@@ -4,49 +4,51 @@ import com.complete.todayspace.domain.chat.dto.ChatMessageRequestDto;
 import com.complete.todayspace.domain.chat.dto.ChatMessageResponseDto;
 import com.complete.todayspace.domain.chat.entity.ChatMessage;
 import com.complete.todayspace.domain.chat.repository.ChatMessageRepository;
-import com.complete.todayspace.domain.chat.repository.ChatRoomRepository;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
-    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembership chatRoomMembership;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatInbox chatInbox;
 
     @Transactional(readOnly = true)
-    public List<ChatMessageResponseDto> getMessageForChatRoom(Long id, String roomId) {
+    public CursorResponseDto<ChatMessageResponseDto> getMessageForChatRoom(Long id, String roomId, String before,
+            String after, int size) {
 
-        if (!chatRoomRepository.existsByRoomIdAndUserId(roomId, id)) {
+        if (!chatRoomMembership.isMember(roomId, id)) {
             throw new CustomException(ErrorCode.NO_CHAT_ROOM_OR_PERMISSION_DENIED);
         }
 
-        List<ChatMessage> chatMessages = chatMessageRepository.findByRoomIdOrderBySendDateAsc(roomId);
+        CursorResponseDto<ChatMessageResponseDto> messages = chatMessageRepository.findMessagesByCursor(roomId, before,
+                after, size);
+
+        // 가장 최근 메시지까지 조회한 경우 읽음 처리
+        if (before == null && (after == null || !messages.isHasNext())) {
+            chatInbox.markRead(roomId, id);
+        }
 
-        return chatMessages.stream()
-                .map( (chatMessage) -> new ChatMessageResponseDto(
-                        chatMessage.getSender(),
-                        chatMessage.getMessage(),
-                        chatMessage.getSendDate()
-                ))
-                .toList();
+        return messages;
     }
 
-    @Transactional
-    public void sendMessage(ChatMessageRequestDto requestDto) {
+    // 방 id 는 본문 값이 아닌 권한을 확인한 전송 경로의 값을 사용
+    public void sendMessage(String roomId, ChatMessageRequestDto requestDto, Long senderId) {
 
         ChatMessage chatMessage = new ChatMessage(
-                requestDto.getRoomId(),
+                roomId,
                 requestDto.getSender(),
                 requestDto.getMessage()
         );
-        chatMessageRepository.save(chatMessage);
+        chatMessageWriter.write(chatMessage);
+        chatInbox.append(chatMessage, senderId);
 
     }
 
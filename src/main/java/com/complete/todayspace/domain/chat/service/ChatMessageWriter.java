@@ -0,0 +1,252 @@
+package com.complete.todayspace.domain.chat.service;
+
+import com.complete.todayspace.domain.chat.entity.ChatMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지를 큐에 모아서 batch 단위로 저장 (write-behind)
+// 재시도 후에도 저장하지 못한 메시지는 chat:message:fallback 목록에 보관했다가 주기적으로 다시 저장
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int DUPLICATE_KEY = 11000;
+    private static final String FALLBACK_KEY = "chat:message:fallback";
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public ChatMessageWriter(
+        MongoTemplate mongoTemplate,
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${chat.write-behind.capacity:10000}") int capacity,
+        @Value("${chat.write-behind.batch-size:200}") int batchSize,
+        @Value("${chat.write-behind.flush-interval-ms:100}") long flushIntervalMs,
+        @Value("${chat.write-behind.offer-timeout-ms:50}") long offerTimeoutMs,
+        @Value("${chat.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMs
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::run, "chat-message-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void write(ChatMessage chatMessage) {
+
+        try {
+            if (running && queue.offer(chatMessage, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 큐가 가득 찼거나 종료 중이면 호출한 스레드에서 직접 저장해서 유입 속도를 늦춤
+        log.warn("채팅 저장 큐가 가득 차 직접 저장합니다. roomId: {}", chatMessage.getRoomId());
+
+        // 이미 전달된 메시지이므로 저장에 실패해도 보관 목록으로 넘겨서 잃지 않도록 함
+        try {
+            mongoTemplate.insert(chatMessage);
+        } catch (DataAccessException e) {
+            log.warn("채팅 메시지 직접 저장 실패 - roomId: {}, {}", chatMessage.getRoomId(), e.getMessage());
+            fallback(List.of(chatMessage));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        running = false;
+        flusher.join(shutdownTimeoutMs);
+
+        if (!queue.isEmpty()) {
+            log.warn("채팅 저장 큐를 모두 비우지 못했습니다. 남은 메시지: {}", queue.size());
+
+            List<ChatMessage> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            fallback(remaining);
+        }
+    }
+
+    // 보관해 둔 메시지를 다시 저장 (id 가 미리 발급되어 있어 이미 저장된 메시지는 중복 저장되지 않음)
+    @Scheduled(fixedDelayString = "${chat.write-behind.fallback-retry-ms:30000}")
+    public void retryFallback() {
+
+        List<Object> values;
+
+        try {
+            values = redisTemplate.opsForList().leftPop(FALLBACK_KEY, batchSize);
+        } catch (DataAccessException e) {
+            log.warn("채팅 메시지 보관 목록 조회 실패 - {}", e.getMessage());
+            return;
+        }
+
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        List<ChatMessage> batch = new ArrayList<>(values.size());
+
+        for (Object value : values) {
+            try {
+                batch.add(objectMapper.readValue(value.toString(), ChatMessage.class));
+            } catch (JsonProcessingException e) {
+                log.error("보관된 채팅 메시지를 읽지 못했습니다. {}", value);
+            }
+        }
+
+        log.info("보관된 채팅 메시지 {}건을 다시 저장합니다.", batch.size());
+        insert(batch);
+    }
+
+    private void run() {
+
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+
+            try {
+
+                ChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+
+                // batch 크기 또는 flush 간격 중 먼저 도달하는 시점에 저장
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+                while (batch.size() < batchSize) {
+
+                    long remaining = deadline - System.nanoTime();
+                    ChatMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    batch.add(next);
+                }
+
+                insert(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                insert(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void insert(List<ChatMessage> batch) {
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ChatMessage> remaining = batch;
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                // unordered 로 저장해서 일부가 실패해도 나머지는 저장되고, 실패한 메시지만 다시 시도
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(remaining)
+                    .execute();
+                return;
+            } catch (BulkOperationException e) {
+                remaining = failed(remaining, e.getErrors());
+                if (remaining.isEmpty()) {
+                    return;
+                }
+                log.warn("채팅 메시지 저장 실패 ({}/{}) - {}건, {}", attempt, MAX_ATTEMPTS, remaining.size(), e.getMessage());
+            } catch (DataAccessException e) {
+                log.warn("채팅 메시지 저장 실패 ({}/{}) - {}건, {}", attempt, MAX_ATTEMPTS, remaining.size(), e.getMessage());
+            }
+        }
+
+        fallback(remaining);
+    }
+
+    // 이미 저장된 메시지(중복 키)는 성공으로 보고 나머지만 다시 시도
+    private List<ChatMessage> failed(List<ChatMessage> batch, List<BulkWriteError> errors) {
+
+        List<ChatMessage> failed = new ArrayList<>();
+
+        for (BulkWriteError error : errors) {
+            if (error.getCode() != DUPLICATE_KEY) {
+                failed.add(batch.get(error.getIndex()));
+            }
+        }
+
+        return failed;
+    }
+
+    private void fallback(List<ChatMessage> messages) {
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Object> values = new ArrayList<>(messages.size());
+
+        for (ChatMessage message : messages) {
+            try {
+                values.add(objectMapper.writeValueAsString(message));
+            } catch (JsonProcessingException e) {
+                log.error("채팅 메시지를 보관하지 못했습니다. roomId: {}, {}", message.getRoomId(), e.getMessage());
+            }
+        }
+
+        try {
+            redisTemplate.opsForList().rightPushAll(FALLBACK_KEY, values);
+            log.warn("저장하지 못한 채팅 메시지 {}건을 보관했습니다.", values.size());
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 {}건을 저장하지 못했습니다. {}", values.size(), e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.complete.todayspace.domain.chat.service;
+
+import com.complete.todayspace.domain.chat.entity.ChatRoom;
+import com.complete.todayspace.domain.chat.repository.ChatRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// roomId -> {seller, buyer} 참여자 정보 (로컬 캐시 -> Redis -> DB 순서로 조회)
+@Slf4j
+@Component
+public class ChatRoomMembership {
+
+    private static final String KEY_PREFIX = "chat:room:members:";
+    private static final String SELLER = "seller";
+    private static final String BUYER = "buyer";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration redisTtl;
+    private final Cache<String, Members> cache;
+
+    public ChatRoomMembership(
+        ChatRoomRepository chatRoomRepository,
+        RedisTemplate<String, Object> redisTemplate,
+        @Value("${chat.membership.cache-max-size:50000}") long maxSize,
+        @Value("${chat.membership.redis-ttl-hours:168}") long redisTtlHours
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        // 채팅방 참여자는 바뀌지 않으므로 크기로만 제한
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    public boolean exists(String roomId) {
+        return find(roomId) != null;
+    }
+
+    public boolean isMember(String roomId, Long userId) {
+
+        Members members = find(roomId);
+
+        return members != null && (members.seller.equals(userId) || members.buyer.equals(userId));
+    }
+
+    // 채팅방 생성 커밋 이후에 등록
+    public void register(String roomId, Long seller, Long buyer) {
+
+        Members members = new Members(seller, buyer);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(roomId, members);
+                }
+            });
+            return;
+        }
+
+        put(roomId, members);
+    }
+
+    private Members find(String roomId) {
+
+        Members members = cache.getIfPresent(roomId);
+
+        if (members != null) {
+            return members;
+        }
+
+        members = findFromRedis(roomId);
+
+        if (members == null) {
+
+            Optional<ChatRoom> chatRoom = chatRoomRepository.findByRoomId(roomId);
+
+            // 없는 방은 곧 생성될 수 있으므로 캐싱하지 않음
+            if (chatRoom.isEmpty()) {
+                return null;
+            }
+
+            members = new Members(chatRoom.get().getSeller(), chatRoom.get().getBuyer());
+            putToRedis(roomId, members);
+        }
+
+        cache.put(roomId, members);
+
+        return members;
+    }
+
+    private void put(String roomId, Members members) {
+        cache.put(roomId, members);
+        putToRedis(roomId, members);
+    }
+
+    private Members findFromRedis(String roomId) {
+
+        try {
+
+            List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + roomId, List.of(SELLER, BUYER));
+
+            if (values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+
+            return new Members(Long.parseLong(values.get(0).toString()), Long.parseLong(values.get(1).toString()));
+
+        } catch (DataAccessException e) {
+            log.warn("채팅방 참여자 조회 실패 - DB 에서 조회합니다. {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(String roomId, Members members) {
+
+        try {
+            redisTemplate.opsForHash().putAll(KEY_PREFIX + roomId, Map.of(
+                SELLER, members.seller.toString(),
+                BUYER, members.buyer.toString()
+            ));
+            redisTemplate.expire(KEY_PREFIX + roomId, redisTtl);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 참여자 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    private static class Members {
+
+        private final Long seller;
+        private final Long buyer;
+
+        private Members(Long seller, Long buyer) {
+            this.seller = seller;
+            this.buyer = buyer;
+        }
+    }
+
+}
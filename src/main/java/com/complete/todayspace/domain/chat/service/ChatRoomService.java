@@ -8,12 +8,14 @@ import com.complete.todayspace.domain.product.entity.Product;
 import com.complete.todayspace.domain.product.service.ProductService;
 import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.domain.user.service.UserService;
+import com.complete.todayspace.global.aop.Tracked;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -23,13 +25,20 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final ProductService productService;
     private final UserService userService;
+    private final ChatRoomMembership chatRoomMembership;
+    private final ChatInbox chatInbox;
 
     @Transactional
-    public void enterChatRoom(Long id, ChatRoomRequestDto requestDto) {
+    public void enterChatRoom(Long id, String username, ChatRoomRequestDto requestDto) {
 
         Long productId = requestDto.getProductId();
         Long seller = requestDto.getSeller();
 
+        // 이미 있는 방이면 상품 / 사용자 조회 없이 입장
+        if (chatRoomMembership.isMember(productId + username, id)) {
+            return;
+        }
+
         Product product = productService.findByProduct(productId);
         Long productUserId = product.getUser().getId();
 
@@ -39,7 +48,6 @@ public class ChatRoomService {
 
         User user = userService.findById(id);
         Long userId = user.getId();
-        String username = user.getUsername();
 
         if (seller.equals(userId)) {
             throw new CustomException(ErrorCode.NO_CHAT_MYSELF);
@@ -51,14 +59,23 @@ public class ChatRoomService {
 
             ChatRoom chatRoom = new ChatRoom(roomId, seller, userId);
             chatRoomRepository.save(chatRoom);
+            chatRoomMembership.register(roomId, seller, userId);
 
         }
 
     }
 
     @Transactional(readOnly = true)
+    @Tracked
     public List<ChatRoomResponseDto> getChatRoom(Long id) {
-        return chatRoomRepository.findByChatRoomWithUserInfo(id);
+
+        List<ChatRoomResponseDto> chatRooms = chatRoomRepository.findByChatRoomWithUserInfo(id);
+
+        chatInbox.fill(chatRooms, id);
+        chatRooms.sort(Comparator.comparing(ChatRoomResponseDto::getLastSendDate,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        return chatRooms;
     }
 
 }
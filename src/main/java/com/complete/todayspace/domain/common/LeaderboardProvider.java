@@ -0,0 +1,183 @@
+package com.complete.todayspace.domain.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// 일 단위 Sorted Set 버킷으로 최근 7일 순위를 관리
+// leaderboard:{board}:{yyyyMMdd}        - 해당 일자의 증감분, 윈도우를 벗어나면 TTL 로 만료
+// leaderboard:{board}:{yyyyMMdd}:actors - 해당 일자에 반영된 "{id}:{actorId}", 취소 시 원래 일자의 버킷을 찾는 데 사용
+// leaderboard:{board}:week       - 최근 7일 버킷 합산 결과, 짧게 캐싱
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardProvider {
+
+    public static final String TOP_LIKED_POSTS = "liked-posts";
+    public static final String TOP_WISHED_PRODUCTS = "wished-products";
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final int WINDOW_DAYS = 7;
+    private static final Duration BUCKET_TTL = Duration.ofDays(WINDOW_DAYS + 1);
+    private static final Duration WEEK_TTL = Duration.ofSeconds(60);
+    private static final Duration SEED_LOCK_TIMEOUT = Duration.ofMinutes(1);
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // KEYS[1] = 오늘 버킷, KEYS[2] = 오늘 actors, ARGV[1] = id, ARGV[2] = "{id}:{actorId}", ARGV[3] = TTL(초)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('SADD', KEYS[2], ARGV[2]) == 0 then return 0 end "
+            + "redis.call('ZINCRBY', KEYS[1], 1, ARGV[1]) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    // KEYS = (버킷, actors) 쌍을 최근 일자부터, 원래 반영된 일자의 버킷만 차감 (윈도우 밖이면 차감하지 않음)
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 2 do "
+            + "  if redis.call('SREM', KEYS[i + 1], ARGV[2]) == 1 then "
+            + "    redis.call('ZINCRBY', KEYS[i], -1, ARGV[1]) "
+            + "    return 1 "
+            + "  end "
+            + "end "
+            + "return 0",
+        Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void increment(String board, Long id, Long actorId) {
+
+        try {
+
+            String key = bucketKey(board, LocalDate.now());
+
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(key, key + ":actors"),
+                id.toString(), id + ":" + actorId, String.valueOf(BUCKET_TTL.toSeconds()));
+
+        } catch (DataAccessException e) {
+            log.warn("순위 갱신 실패 - board: {}, id: {}, {}", board, id, e.getMessage());
+        }
+    }
+
+    // 초기화 때 DB 집계로 채운 분은 actors 가 없으므로 차감하지 않고 윈도우를 벗어나면서 사라지도록 둠
+    public void decrement(String board, Long id, Long actorId) {
+
+        try {
+
+            LocalDate today = LocalDate.now();
+            List<String> keys = new ArrayList<>();
+
+            for (int i = 0; i < WINDOW_DAYS; i++) {
+                String key = bucketKey(board, today.minusDays(i));
+                keys.add(key);
+                keys.add(key + ":actors");
+            }
+
+            redisTemplate.execute(DECREMENT_SCRIPT, keys, id.toString(), id + ":" + actorId);
+
+        } catch (DataAccessException e) {
+            log.warn("순위 갱신 실패 - board: {}, id: {}, {}", board, id, e.getMessage());
+        }
+    }
+
+    // Redis 를 사용할 수 없으면 빈 목록을 반환하고 호출하는 쪽에서 DB 로 대체
+    public List<Long> top(String board, int size) {
+
+        try {
+
+            String weekKey = KEY_PREFIX + board + ":week";
+
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(weekKey))) {
+
+                LocalDate today = LocalDate.now();
+                List<String> otherKeys = new ArrayList<>();
+
+                for (int i = 1; i < WINDOW_DAYS; i++) {
+                    otherKeys.add(bucketKey(board, today.minusDays(i)));
+                }
+
+                redisTemplate.opsForZSet().unionAndStore(bucketKey(board, today), otherKeys, weekKey);
+                redisTemplate.expire(weekKey, WEEK_TTL);
+            }
+
+            Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(weekKey, 0, size - 1);
+
+            if (tuples == null) {
+                return Collections.emptyList();
+            }
+
+            List<Long> ids = new ArrayList<>();
+
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                if (tuple.getScore() != null && tuple.getScore() > 0) {
+                    ids.add(Long.parseLong(tuple.getValue().toString()));
+                }
+            }
+
+            return ids;
+
+        } catch (DataAccessException e) {
+            log.warn("순위 조회 실패 - board: {}, {}", board, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    // 최초 1회 DB 의 최근 7일 집계로 버킷을 채움 (일자 -> (id -> 개수))
+    // 완료 표시는 채운 뒤에 남겨서 중간에 실패하면 다음 시작 때 다시 시도
+    public void seedIfAbsent(String board, Supplier<Map<LocalDate, Map<Long, Long>>> loader) {
+
+        String seededKey = KEY_PREFIX + board + ":seeded";
+
+        try {
+
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(seededKey))) {
+                return;
+            }
+
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(seededKey + ":lock", "1", SEED_LOCK_TIMEOUT);
+
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            LocalDate oldest = LocalDate.now().minusDays(WINDOW_DAYS - 1);
+
+            loader.get().forEach((date, counts) -> {
+
+                if (date.isBefore(oldest)) {
+                    return;
+                }
+
+                String key = bucketKey(board, date);
+                counts.forEach((id, count) -> redisTemplate.opsForZSet().incrementScore(key, id.toString(), count));
+                redisTemplate.expire(key, BUCKET_TTL);
+            });
+
+            redisTemplate.opsForValue().set(seededKey, "1");
+
+        } catch (DataAccessException e) {
+            log.warn("순위 초기화 실패 - board: {}, {}", board, e.getMessage());
+        }
+    }
+
+    private String bucketKey(String board, LocalDate date) {
+        return KEY_PREFIX + board + ":" + date.format(BUCKET_FORMAT);
+    }
+
+}
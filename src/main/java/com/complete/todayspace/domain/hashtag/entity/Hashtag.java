@@ -7,7 +7,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "table_hashtag")
+@Table(name = "table_hashtag", indexes = {
+    @Index(name = "idx_hashtag_hashtag_list_id_post_id", columnList = "hashtag_list_id, post_id")
+})
 @Getter
 @NoArgsConstructor
 public class Hashtag extends CreatedTimestamp {
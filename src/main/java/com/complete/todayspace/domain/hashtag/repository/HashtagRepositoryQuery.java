@@ -1,7 +1,12 @@
 package com.complete.todayspace.domain.hashtag.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface HashtagRepositoryQuery {
     List<String> findTop10Hashtags();
+
+    Map<LocalDate, Map<String, Long>> countDailyHashtagsSince(LocalDateTime since);
 }
@@ -2,11 +2,18 @@ package com.complete.todayspace.domain.hashtag.repository;
 
 import com.complete.todayspace.domain.hashtag.entity.QHashtag;
 import com.complete.todayspace.domain.hashtag.entity.QHashtagList;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class HashtagRepositoryQueryImpl implements HashtagRepositoryQuery {
@@ -30,4 +37,28 @@ public class HashtagRepositoryQueryImpl implements HashtagRepositoryQuery {
                 .limit(10)
                 .fetch();
     }
+
+    @Override
+    public Map<LocalDate, Map<String, Long>> countDailyHashtagsSince(LocalDateTime since) {
+        QHashtag qHashtag = QHashtag.hashtag;
+        QHashtagList qHashtagList = QHashtagList.hashtagList;
+
+        DateExpression<LocalDate> taggedDate = Expressions.dateTemplate(LocalDate.class, "cast({0} as date)", qHashtag.createdAt);
+
+        List<Tuple> tuples = queryFactory.select(taggedDate, qHashtagList.hashtagName, qHashtag.count())
+                .from(qHashtag)
+                .join(qHashtag.hashtagList, qHashtagList)
+                .where(qHashtag.createdAt.after(since))
+                .groupBy(taggedDate, qHashtagList.hashtagName)
+                .fetch();
+
+        Map<LocalDate, Map<String, Long>> dailyCounts = new HashMap<>();
+
+        for (Tuple tuple : tuples) {
+            dailyCounts.computeIfAbsent(tuple.get(taggedDate), date -> new HashMap<>())
+                    .put(tuple.get(qHashtagList.hashtagName), tuple.get(qHashtag.count()));
+        }
+
+        return dailyCounts;
+    }
 }
@@ -0,0 +1,169 @@
+package com.complete.todayspace.domain.hashtag.service;
+
+import com.complete.todayspace.domain.hashtag.repository.HashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// 시간 감쇠(forward decay) 점수로 최근 많이 쓰인 해시태그 top 10 을 Redis ZSET 에서 관리 (인스턴스 간 공유)
+// 점수 = sum(exp(lambda * (사용 시각 - landmark))), landmark 가 오래되면 현재 시각으로 재조정
+// 시작할 때 ZSET 이 없으면 DB 에서 최근 7일치를 다시 집계
+@Slf4j
+@Component
+public class TrendingHashtags {
+
+    private static final String SCORES_KEY = "hashtag:trending:scores";
+    private static final String LANDMARK_KEY = "hashtag:trending:landmark";
+    private static final String SEED_LOCK_KEY = "hashtag:trending:seed";
+    private static final Duration SEED_LOCK_TIMEOUT = Duration.ofMinutes(1);
+    private static final int TOP_SIZE = 10;
+    private static final int SEED_DAYS = 7;
+
+    // KEYS[1] = 점수 ZSET, KEYS[2] = landmark
+    // ARGV[1] = 현재 시각, ARGV[2] = lambda, ARGV[3] = 사용 시각, ARGV[4] = 횟수(음수면 차감), ARGV[5..] = 해시태그
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+        "local now = tonumber(ARGV[1]) "
+            + "local lambda = tonumber(ARGV[2]) "
+            + "local landmark = tonumber(redis.call('GET', KEYS[2])) "
+            + "if not landmark then "
+            + "  landmark = now "
+            + "  redis.call('SET', KEYS[2], ARGV[1]) "
+            + "elseif lambda * (now - landmark) >= 30 then "
+            + "  local factor = math.exp(-lambda * (now - landmark)) "
+            + "  local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') "
+            + "  for i = 1, #entries, 2 do "
+            + "    redis.call('ZADD', KEYS[1], tonumber(entries[i + 1]) * factor, entries[i]) "
+            + "  end "
+            + "  landmark = now "
+            + "  redis.call('SET', KEYS[2], ARGV[1]) "
+            + "end "
+            + "local weight = tonumber(ARGV[4]) * math.exp(lambda * (tonumber(ARGV[3]) - landmark)) "
+            + "for i = 5, #ARGV do redis.call('ZINCRBY', KEYS[1], weight, ARGV[i]) end "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(0.001') "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final HashtagRepository hashtagRepository;
+    private final double lambda;
+
+    public TrendingHashtags(
+        RedisTemplate<String, Object> redisTemplate,
+        HashtagRepository hashtagRepository,
+        @Value("${hashtag.trending.half-life-hours:24}") double halfLifeHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.hashtagRepository = hashtagRepository;
+        this.lambda = Math.log(2) / (halfLifeHours * 3600);
+    }
+
+    // 조회에 실패하면 빈 목록을 반환해서 DB 집계로 대체
+    public List<String> top() {
+
+        try {
+
+            Set<Object> hashtags = redisTemplate.opsForZSet().reverseRange(SCORES_KEY, 0, TOP_SIZE - 1);
+
+            if (hashtags == null) {
+                return List.of();
+            }
+
+            return hashtags.stream().map(Object::toString).toList();
+
+        } catch (DataAccessException e) {
+            log.warn("인기 해시태그 조회 실패 - {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    public void add(Collection<String> hashtags) {
+        recordAfterCommit(List.copyOf(hashtags), LocalDateTime.now(), 1);
+    }
+
+    // 삭제는 해시태그가 달린 시각 기준의 가중치만큼 차감
+    public void remove(String hashtag, LocalDateTime taggedAt) {
+        recordAfterCommit(List.of(hashtag), taggedAt, -1);
+    }
+
+    // 롤백된 작성 / 삭제가 점수에 반영되지 않도록 커밋 이후에 기록
+    private void recordAfterCommit(List<String> hashtags, LocalDateTime at, long count) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(hashtags, at, count);
+                }
+            });
+            return;
+        }
+
+        record(hashtags, at, count);
+    }
+
+    private void record(Collection<String> hashtags, LocalDateTime at, long count) {
+
+        if (hashtags.isEmpty()) {
+            return;
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(now()));
+        args.add(String.valueOf(lambda));
+        args.add(String.valueOf(at.atZone(ZoneId.systemDefault()).toEpochSecond()));
+        args.add(String.valueOf(count));
+        args.addAll(hashtags);
+
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, List.of(SCORES_KEY, LANDMARK_KEY), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("인기 해시태그 점수 반영 실패 - {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+
+        try {
+
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(SCORES_KEY))) {
+                return;
+            }
+
+            // 여러 인스턴스가 동시에 시작해도 한 번만 집계
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(SEED_LOCK_KEY, "1", SEED_LOCK_TIMEOUT);
+
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            hashtagRepository.countDailyHashtagsSince(LocalDateTime.now().minusDays(SEED_DAYS))
+                .forEach((date, counts) -> counts.forEach((hashtag, count) ->
+                    record(List.of(hashtag), date.atTime(12, 0), count)));
+
+        } catch (DataAccessException e) {
+            log.warn("인기 해시태그 복구 실패 - {}", e.getMessage());
+        }
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+}
@@ -3,7 +3,9 @@ package com.complete.todayspace.domain.like.repository;
 import com.complete.todayspace.domain.like.entity.Like;
 import com.complete.todayspace.domain.post.entitiy.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +18,7 @@ public interface LikeRepository extends JpaRepository<Like, Long>,
     long countByPostId(Long postId);
 
     List<Like> findByPostId(Long postId);
+
+    @Query("select l.user.id from Like l where l.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
 }
@@ -4,7 +4,16 @@ import com.complete.todayspace.domain.post.entitiy.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 public interface LikeRepositoryQuery {
 
     Page<Post> findTopLikedPosts(Pageable pageable);
+
+    Map<Long, Long> countByPostIdIn(List<Long> postIds);
+
+    Map<LocalDate, Map<Long, Long>> countDailyLikesSince(LocalDateTime since);
 }
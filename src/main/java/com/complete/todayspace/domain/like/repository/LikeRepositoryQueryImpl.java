@@ -1,6 +1,9 @@
 package com.complete.todayspace.domain.like.repository;
 
 import com.complete.todayspace.domain.post.entitiy.Post;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +12,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.complete.todayspace.domain.like.entity.QLike.like;
 import static com.complete.todayspace.domain.post.entitiy.QPost.post;
@@ -44,4 +50,49 @@ public class LikeRepositoryQueryImpl implements LikeRepositoryQuery {
 
         return PageableExecutionUtils.getPage(posts, pageable, query::fetchCount);
     }
+
+    @Override
+    public Map<Long, Long> countByPostIdIn(List<Long> postIds) {
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+
+        if (postIds.isEmpty()) {
+            return likeCounts;
+        }
+
+        List<Tuple> tuples = jpaQueryFactory
+                .select(like.post.id, like.count())
+                .from(like)
+                .where(like.post.id.in(postIds))
+                .groupBy(like.post.id)
+                .fetch();
+
+        for (Tuple tuple : tuples) {
+            likeCounts.put(tuple.get(like.post.id), tuple.get(like.count()));
+        }
+
+        return likeCounts;
+    }
+
+    @Override
+    public Map<LocalDate, Map<Long, Long>> countDailyLikesSince(LocalDateTime since) {
+
+        DateExpression<LocalDate> likedDate = Expressions.dateTemplate(LocalDate.class, "cast({0} as date)", like.createdAt);
+
+        List<Tuple> tuples = jpaQueryFactory
+                .select(likedDate, like.post.id, like.count())
+                .from(like)
+                .where(like.createdAt.after(since))
+                .groupBy(likedDate, like.post.id)
+                .fetch();
+
+        Map<LocalDate, Map<Long, Long>> dailyCounts = new HashMap<>();
+
+        for (Tuple tuple : tuples) {
+            dailyCounts.computeIfAbsent(tuple.get(likedDate), date -> new HashMap<>())
+                    .put(tuple.get(like.post.id), tuple.get(like.count()));
+        }
+
+        return dailyCounts;
+    }
 }
@@ -0,0 +1,345 @@
+package com.complete.todayspace.domain.like.service;
+
+import com.complete.todayspace.domain.like.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 좋아요 상태는 Redis 에서 관리하고 DB 에는 주기적으로 일괄 반영 (write-behind)
+// like:post:{postId}    - "count" -> 좋아요 수, "{userId}" -> 1 Hash (키가 있으면 해당 게시글은 warm 상태)
+//                         조회만 된 게시글은 TTL 로 만료, DB 미반영 변경분이 있는 동안에는 만료하지 않음
+// like:pending          - "{postId}:{userId}" -> 1(좋아요) / 0(취소), DB 미반영 변경분
+// like:dirty            - DB 미반영 변경분이 있는 postId Set
+// like:*:flushing       - 반영 중인 pending / dirty, 반영 도중 종료되면 다음 주기에 이어서 처리
+@Slf4j
+@Component
+public class LikeCounter {
+
+    private static final String POST_KEY = "like:post:";
+    private static final String COUNT_FIELD = "count";
+    private static final String PENDING_KEY = "like:pending";
+    private static final String FLUSHING_KEY = "like:pending:flushing";
+    private static final String DIRTY_KEY = "like:dirty";
+    private static final String DIRTY_FLUSHING_KEY = "like:dirty:flushing";
+    private static final String LOCK_KEY = "like:flush:lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(30);
+
+    // 이전 구조(공유 카운트 Hash + 게시글별 유저 Set)의 키, 시작할 때 정리
+    private static final String LEGACY_COUNT_KEY = "like:count";
+    private static final String LEGACY_USERS_PATTERN = "like:users:*";
+
+    // KEYS[1] = like:post:{postId}, KEYS[2] = pending, KEYS[3] = dirty, ARGV[1] = postId, ARGV[2] = userId
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "local field = ARGV[1] .. ':' .. ARGV[2] "
+            + "redis.call('PERSIST', KEYS[1]) "
+            + "redis.call('SADD', KEYS[3], ARGV[1]) "
+            + "if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 1 then "
+            + "  redis.call('HDEL', KEYS[1], ARGV[2]) "
+            + "  redis.call('HINCRBY', KEYS[1], 'count', -1) "
+            + "  redis.call('HSET', KEYS[2], field, '0') "
+            + "  return 0 "
+            + "end "
+            + "redis.call('HSET', KEYS[1], ARGV[2], '1') "
+            + "redis.call('HINCRBY', KEYS[1], 'count', 1) "
+            + "redis.call('HSET', KEYS[2], field, '1') "
+            + "return 1",
+        Long.class);
+
+    // KEYS[1] = like:post:{postId}, ARGV[1] = TTL(초), ARGV[2..] = userId
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "  return tonumber(redis.call('HGET', KEYS[1], 'count')) "
+            + "end "
+            + "redis.call('HSET', KEYS[1], 'count', #ARGV - 1) "
+            + "for i = 2, #ARGV do redis.call('HSET', KEYS[1], ARGV[i], '1') end "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+            + "return #ARGV - 1",
+        Long.class);
+
+    // 이전 반영이 남아 있으면 그것부터 처리, 없으면 pending / dirty 를 함께 flushing 으로 옮김
+    // KEYS[1] = pending, KEYS[2] = flushing, KEYS[3] = dirty, KEYS[4] = dirty:flushing
+    private static final RedisScript<Long> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[2]) == 1 then return 1 end "
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+            + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+            + "if redis.call('EXISTS', KEYS[3]) == 1 then redis.call('RENAME', KEYS[3], KEYS[4]) end "
+            + "return 1",
+        Long.class);
+
+    // 반영을 마친 게시글은 다시 만료되도록 함 (반영 중에 새 변경분이 생긴 게시글은 제외)
+    // KEYS[1] = flushing, KEYS[2] = dirty:flushing, KEYS[3] = dirty, ARGV[1] = TTL(초), ARGV[2] = like:post: 접두어
+    private static final RedisScript<Long> FINISH_FLUSH_SCRIPT = new DefaultRedisScript<>(
+        "for _, postId in ipairs(redis.call('SMEMBERS', KEYS[2])) do "
+            + "  if redis.call('SISMEMBER', KEYS[3], postId) == 0 then "
+            + "    redis.call('EXPIRE', ARGV[2] .. postId, ARGV[1]) "
+            + "  end "
+            + "end "
+            + "redis.call('DEL', KEYS[1], KEYS[2]) "
+            + "return 1",
+        Long.class);
+
+    // 락 만료 후 다른 인스턴스가 잡은 락을 지우지 않도록 내 토큰일 때만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class);
+
+    private static final String INSERT_SQL = "INSERT INTO table_like (post_id, user_id, created_at) "
+        + "SELECT ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM table_like WHERE post_id = ? AND user_id = ?) "
+        + "AND EXISTS (SELECT 1 FROM table_post WHERE id = ?)";
+
+    private static final String DELETE_SQL = "DELETE FROM table_like WHERE post_id = ? AND user_id = ?";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LikeRepository likeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String ttlSeconds;
+
+    public LikeCounter(
+        RedisTemplate<String, Object> redisTemplate,
+        LikeRepository likeRepository,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${like.cache.ttl-seconds:3600}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.likeRepository = likeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ttlSeconds = String.valueOf(ttlSeconds);
+    }
+
+    public boolean toggle(Long postId, Long userId) {
+
+        List<String> keys = List.of(POST_KEY + postId, PENDING_KEY, DIRTY_KEY);
+
+        Long result = redisTemplate.execute(TOGGLE_SCRIPT, keys, postId.toString(), userId.toString());
+
+        if (result != null && result == -1) {
+            warm(postId);
+            result = redisTemplate.execute(TOGGLE_SCRIPT, keys, postId.toString(), userId.toString());
+        }
+
+        return result != null && result == 1;
+    }
+
+    public boolean isLiked(Long postId, Long userId) {
+
+        warm(postId);
+
+        return redisTemplate.opsForHash().hasKey(POST_KEY + postId, userId.toString());
+    }
+
+    public long count(Long postId) {
+
+        Object count = redisTemplate.opsForHash().get(POST_KEY + postId, COUNT_FIELD);
+
+        if (count != null) {
+            return Long.parseLong(count.toString());
+        }
+
+        return warm(postId);
+    }
+
+    // warm 상태가 아닌 게시글은 DB 미반영 변경분이 없으므로 DB 집계를 그대로 사용
+    public Map<Long, Long> counts(List<Long> postIds) {
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+
+        if (postIds.isEmpty()) {
+            return likeCounts;
+        }
+
+        byte[] countField = COUNT_FIELD.getBytes(StandardCharsets.UTF_8);
+
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.hashCommands().hGet((POST_KEY + postId).getBytes(StandardCharsets.UTF_8), countField);
+            }
+            return null;
+        });
+
+        List<Long> missing = new ArrayList<>();
+
+        for (int i = 0; i < postIds.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                likeCounts.put(postIds.get(i), Long.parseLong(value.toString()));
+            } else {
+                missing.add(postIds.get(i));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            likeCounts.putAll(likeRepository.countByPostIdIn(missing));
+        }
+
+        return likeCounts;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 삭제 (커밋 전 조회가 삭제되지 않은 좋아요로 다시 warm 하는 것 방지)
+    public void evict(Long postId) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.delete(POST_KEY + postId);
+                }
+            });
+            return;
+        }
+
+        redisTemplate.delete(POST_KEY + postId);
+    }
+
+    @Scheduled(fixedDelayString = "${like.flush.interval-ms:5000}")
+    public void flush() {
+
+        try {
+            withLock(this::flushPending);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 반영 실패 - 다음 주기에 재시도합니다. {}", e.getMessage());
+        }
+    }
+
+    // 재시작 시 남은 변경분을 DB 에 반영하고 이전 구조의 키를 정리
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+
+        try {
+
+            boolean reconciled = withLock(() -> {
+                flushPending();
+                removeLegacyKeys();
+            });
+
+            if (!reconciled) {
+                log.warn("좋아요 정합성 복구 보류 - 다른 인스턴스가 반영 중입니다.");
+            }
+
+        } catch (DataAccessException e) {
+            log.warn("좋아요 정합성 복구 실패 - {}", e.getMessage());
+        }
+    }
+
+    private boolean withLock(Runnable task) {
+
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT);
+
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+
+        try {
+            task.run();
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+
+        return true;
+    }
+
+    private long warm(Long postId) {
+
+        Object cached = redisTemplate.opsForHash().get(POST_KEY + postId, COUNT_FIELD);
+
+        if (cached != null) {
+            return Long.parseLong(cached.toString());
+        }
+
+        List<Long> userIds = likeRepository.findUserIdsByPostId(postId);
+
+        List<Object> args = new ArrayList<>();
+        args.add(ttlSeconds);
+        userIds.forEach(userId -> args.add(userId.toString()));
+
+        Long count = redisTemplate.execute(WARM_SCRIPT, List.of(POST_KEY + postId), args.toArray());
+
+        return count == null ? userIds.size() : count;
+    }
+
+    private void flushPending() {
+
+        Long started = redisTemplate.execute(BEGIN_FLUSH_SCRIPT,
+            List.of(PENDING_KEY, FLUSHING_KEY, DIRTY_KEY, DIRTY_FLUSHING_KEY));
+
+        if (started == null || started == 0) {
+            return;
+        }
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+
+            String[] ids = entry.getKey().toString().split(":");
+            Long postId = Long.parseLong(ids[0]);
+            Long userId = Long.parseLong(ids[1]);
+
+            if ("1".equals(entry.getValue().toString())) {
+                inserts.add(new Object[]{postId, userId, now, postId, userId, postId});
+            } else {
+                deletes.add(new Object[]{postId, userId});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+        });
+
+        redisTemplate.execute(FINISH_FLUSH_SCRIPT, List.of(FLUSHING_KEY, DIRTY_FLUSHING_KEY, DIRTY_KEY),
+            ttlSeconds, POST_KEY);
+
+        log.debug("좋아요 반영 - like: {}, unlike: {}", inserts.size(), deletes.size());
+    }
+
+    private void removeLegacyKeys() {
+
+        redisTemplate.delete(LEGACY_COUNT_KEY);
+
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(LEGACY_USERS_PATTERN).count(1000).build())) {
+            List<String> keys = new ArrayList<>();
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
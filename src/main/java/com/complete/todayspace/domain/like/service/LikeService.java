@@ -1,53 +1,57 @@
 package com.complete.todayspace.domain.like.service;
 
-import com.complete.todayspace.domain.like.entity.Like;
+import com.complete.todayspace.domain.common.LeaderboardProvider;
 import com.complete.todayspace.domain.like.repository.LikeRepository;
-import com.complete.todayspace.domain.post.entitiy.Post;
 import com.complete.todayspace.domain.post.repository.PostRepository;
 import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDate;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
-    private final LikeRepository likeRepository;
+    private final LikeCounter likeCounter;
     private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final LeaderboardProvider leaderboardProvider;
 
-    @Transactional
     public boolean toggleLike(User user, Long postId) {
-        Post post = findPostById(postId);
+        validatePostExists(postId);
 
-        Optional<Like> existingLike = likeRepository.findByUserIdAndPostId(user.getId(), postId);
-
-        if (existingLike.isPresent()) {
-            likeRepository.delete(existingLike.get());
-            return false;
+        boolean liked = likeCounter.toggle(postId, user.getId());
+        if (liked) {
+            leaderboardProvider.increment(LeaderboardProvider.TOP_LIKED_POSTS, postId, user.getId());
         } else {
-            Like like = new Like(user, post);
-            likeRepository.save(like);
-            return true;
+            leaderboardProvider.decrement(LeaderboardProvider.TOP_LIKED_POSTS, postId, user.getId());
         }
+
+        return liked;
     }
 
-    @Transactional(readOnly = true)
     public boolean checkIfLiked(User user, Long postId) {
-        return likeRepository.findByUserIdAndPostId(user.getId(), postId).isPresent();
+        return likeCounter.isLiked(postId, user.getId());
     }
 
-    @Transactional(readOnly = true)
     public long countLikes(Long postId) {
-        return likeRepository.countByPostId(postId);
+        return likeCounter.count(postId);
     }
 
-    private Post findPostById(Long postId) {
-        return postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedLeaderboard() {
+        leaderboardProvider.seedIfAbsent(LeaderboardProvider.TOP_LIKED_POSTS,
+                () -> likeRepository.countDailyLikesSince(LocalDate.now().minusDays(6).atStartOfDay()));
+    }
+
+    private void validatePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
     }
 }
@@ -36,6 +36,7 @@ public class OAuthService {
     private final PasswordEncoder passwordEncoder;
     private final RestTemplate restTemplate;
     private final JwtProvider jwtProvider;
+    private final ObjectMapper objectMapper;
 
     @Value("${oauth.rest.api.key.kakao}")
     private String KAKAO_CLIENT_ID;
@@ -115,7 +116,7 @@ public class OAuthService {
     public HttpHeaders setCookie(User user) {
 
         String refreshToken = jwtProvider.generateRefreshToken(user.getUsername(), user.getRole().toString(), user.getId());
-        Long expiration = jwtProvider.getExpirationLong(refreshToken);
+        Long expiration = jwtProvider.getRefreshTokenExpirationLong();
         ResponseCookie responseCookie = jwtProvider.createRefreshTokenCookie(refreshToken);
 
         HttpHeaders headers = new HttpHeaders();
@@ -192,7 +193,7 @@ public class OAuthService {
                 .body(params);
 
         ResponseEntity<String> response = restTemplate.exchange(requestEntity, String.class);
-        JsonNode jsonNode = new ObjectMapper().readTree(response.getBody());
+        JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
         return jsonNode.get("access_token").asText();
     }
@@ -249,7 +250,7 @@ public class OAuthService {
 
         ResponseEntity<String> response = restTemplate.exchange(requestEntity, String.class);
 
-        return new ObjectMapper().readTree(response.getBody());
+        return objectMapper.readTree(response.getBody());
     }
 
     private User registerOAuthUserIfNeeded(OAuthDto oAuthDto) {
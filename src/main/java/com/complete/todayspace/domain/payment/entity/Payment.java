@@ -27,6 +27,9 @@ public class Payment extends CreatedTimestamp {
     @Enumerated(EnumType.STRING)
     private State state;
 
+    @Column
+    private String tid;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false, unique = true)
     private Product product;
@@ -47,4 +50,9 @@ public class Payment extends CreatedTimestamp {
 
         this.state = state;
     }
+
+    public void updateTid(String tid) {
+
+        this.tid = tid;
+    }
 }
@@ -3,11 +3,29 @@ package com.complete.todayspace.domain.payment.repository;
 import com.complete.todayspace.domain.payment.entity.Payment;
 import com.complete.todayspace.domain.payment.entity.State;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Payment findByProductId(Long productId);
     Optional<Payment> findFirstByProductIdAndState(Long productId, State state);
+    boolean existsByProductId(Long productId);
+
+    @Query("select p.product.id from Payment p where p.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
+    // 결제 준비(tid 저장)까지 가지 못하고 남은 예약
+    @Query("select p.product.id from Payment p "
+        + "where p.state = :state and p.tid is null and p.createdAt < :before")
+    List<Long> findStaleReservedProductIds(@Param("state") State state, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("delete from Payment p where p.state = :state and p.tid is null and p.createdAt < :before")
+    int deleteStaleReservations(@Param("state") State state, @Param("before") LocalDateTime before);
 }
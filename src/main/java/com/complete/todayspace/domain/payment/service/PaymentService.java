@@ -7,29 +7,35 @@ import com.complete.todayspace.domain.payment.entity.Payment;
 import com.complete.todayspace.domain.payment.entity.State;
 import com.complete.todayspace.domain.payment.repository.PaymentRepository;
 import com.complete.todayspace.domain.product.entity.Product;
+import com.complete.todayspace.domain.product.service.ProductDetailCache;
 import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.Optional;
+import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
     private final RestTemplate restTemplate;
-    private ReadyResponseDto kakaoReady;
     private final PaymentRepository paymentRepository;
+    private final ProductDetailCache productDetailCache;
 
     @Value("${KAKAO_PAY_SECRET_KEY}")
     private String KAKAO_PAY_SECRET_KEY;
@@ -43,9 +49,33 @@ public class PaymentService {
     @Value("${front.url}")
     private String frontURL;
 
+    @Value("${payment.reservation.ttl-seconds:600}")
+    private long reservationTtlSeconds;
+
+    // 1단계: 상품 예약 (product_id unique 제약으로 중복 결제 방지)
     @Transactional
-    public ReadyResponseDto readyPayment(User user, PaymentInfoRequestDto paymentInfoRequestDto,
-        Product product) {
+    public Long reservePayment(User user, PaymentInfoRequestDto paymentInfoRequestDto, Product product) {
+
+        if (paymentRepository.existsByProductId(paymentInfoRequestDto.getProductId())) {
+            throw new CustomException(ErrorCode.COMPLATED_PAYMENT);
+        }
+
+        try {
+
+            Payment payment = new Payment(product, paymentInfoRequestDto.getTotal_amount(), State.PROGRESS, user);
+            paymentRepository.saveAndFlush(payment);
+            productDetailCache.evict(product.getId());
+
+            return payment.getId();
+
+        } catch (DataIntegrityViolationException | OptimisticLockException e) {
+
+            throw new CustomException(ErrorCode.COMPLATED_PAYMENT);
+        }
+    }
+
+    // 2단계: 카카오페이 결제 준비 (트랜잭션 없이 호출)
+    public ReadyResponseDto requestReady(User user, PaymentInfoRequestDto paymentInfoRequestDto) {
 
         HashMap<String, String> parameters = new HashMap<>();
 
@@ -63,44 +93,77 @@ public class PaymentService {
 
         HttpEntity<HashMap<String, String>> requestEntity = new HttpEntity<>(parameters, this.getHeaders());
 
-       try{
-           kakaoReady =  restTemplate.postForObject(
-               KAKAO_PAY_URL+"/online/v1/payment/ready",
-               requestEntity,
-               ReadyResponseDto.class);
+        try {
 
-           Optional<Payment> existingProgress = paymentRepository.findFirstByProductIdAndState(
-               paymentInfoRequestDto.getProductId(), State.PROGRESS);
-           Optional<Payment> existingComplate = paymentRepository.findFirstByProductIdAndState(
-               paymentInfoRequestDto.getProductId(), State.COMPLATE);
+            ReadyResponseDto kakaoReady = restTemplate.postForObject(
+                KAKAO_PAY_URL+"/online/v1/payment/ready",
+                requestEntity,
+                ReadyResponseDto.class);
 
-           if (existingProgress.isPresent()) {
-               throw new CustomException(ErrorCode.COMPLATED_PAYMENT);
-           }
+            if (kakaoReady == null) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
 
-           if (existingComplate.isPresent()) {
-               throw new CustomException(ErrorCode.COMPLATED_PAYMENT);
-           }
+            return kakaoReady;
 
-           Payment payment = new Payment(product, paymentInfoRequestDto.getTotal_amount(), State.PROGRESS, user);
-           paymentRepository.save(payment);
+        } catch (RestClientException e) {
 
-       } catch (OptimisticLockException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
 
-           throw new CustomException(ErrorCode.COMPLATED_PAYMENT);
-       }
+    // 3단계: 결제 준비 결과(tid) 저장
+    @Transactional
+    public void confirmReady(Long paymentId, String tid) {
 
+        Payment payment = paymentRepository.findById(paymentId)
+            .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
+        payment.updateTid(tid);
+    }
 
-        return kakaoReady;
+    // 결제 준비 실패 시 예약 해제
+    @Transactional
+    public void releasePayment(Long paymentId) {
+
+        paymentRepository.findById(paymentId)
+            .filter(payment -> payment.getState() == State.PROGRESS)
+            .ifPresent(payment -> {
+                paymentRepository.delete(payment);
+                productDetailCache.evict(payment.getProduct().getId());
+            });
+    }
+
+    // 예약 후 서버가 종료되는 등 해제되지 못한 예약을 정리 (tid 가 저장된 행은 결제가 진행 중이므로 제외)
+    @Scheduled(fixedDelayString = "${payment.reservation.cleanup-interval-ms:60000}")
+    @Transactional
+    public void releaseStaleReservations() {
+
+        LocalDateTime before = LocalDateTime.now().minusSeconds(reservationTtlSeconds);
+        List<Long> productIds = paymentRepository.findStaleReservedProductIds(State.PROGRESS, before);
+
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        int deleted = paymentRepository.deleteStaleReservations(State.PROGRESS, before);
+        productDetailCache.evict(productIds);
+
+        log.info("만료된 결제 예약 해제 - {}건", deleted);
     }
 
     @Transactional
     public KakaoApproveResponse successPayment(User user, String pgToken, Long productId) {
 
+        Payment payment = paymentRepository.findByProductId(productId);
+
+        if (payment == null || payment.getTid() == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
         HashMap<String, String> parameters = new HashMap<>();
 
         parameters.put("cid", "TC0ONETIME");
-        parameters.put("tid", kakaoReady.getTid());
+        parameters.put("tid", payment.getTid());
         parameters.put("partner_order_id", String.valueOf(productId));
         parameters.put("partner_user_id", String.valueOf(user.getId()));
         parameters.put("pg_token", pgToken);
@@ -115,8 +178,9 @@ public class PaymentService {
                 requestEntity,
                 KakaoApproveResponse.class);
 
-            Payment payment = paymentRepository.findByProductId(productId);
             payment.updateState(State.COMPLATE);
+            payment.getProduct().updateSoldOut(true);
+            productDetailCache.evict(productId);
 
 
             return approveResponse;
@@ -132,7 +196,9 @@ public class PaymentService {
     public void cancelPayment(Long productId) {
 
         Payment payment = paymentRepository.findByProductId(productId);
+        payment.getProduct().updateSoldOut(false);
         paymentRepository.delete(payment);
+        productDetailCache.evict(productId);
     }
 
     private HttpHeaders getHeaders() {
@@ -15,9 +15,23 @@ public class ProcessingService {
     private final ProductService productService;
     private final PaymentService paymentService;
 
+    // 예약 -> 외부 결제 준비 -> 확정 순서로 처리해서 카카오페이 호출 동안 트랜잭션을 열어두지 않음
     public ReadyResponseDto preparePayment(User user, PaymentInfoRequestDto paymentInfoRequestDto) {
 
         Product product = productService.findByProduct(paymentInfoRequestDto.getProductId());
-        return paymentService.readyPayment(user, paymentInfoRequestDto, product);
+        Long paymentId = paymentService.reservePayment(user, paymentInfoRequestDto, product);
+
+        try {
+
+            ReadyResponseDto kakaoReady = paymentService.requestReady(user, paymentInfoRequestDto);
+            paymentService.confirmReady(paymentId, kakaoReady.getTid());
+
+            return kakaoReady;
+
+        } catch (RuntimeException e) {
+
+            paymentService.releasePayment(paymentId);
+            throw e;
+        }
     }
 }
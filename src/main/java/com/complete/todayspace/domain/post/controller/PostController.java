@@ -9,7 +9,9 @@ import com.complete.todayspace.domain.post.dto.EditPostRequestDto;
 import com.complete.todayspace.domain.post.dto.MyPostResponseDto;
 import com.complete.todayspace.domain.post.dto.PostResponseDto;
 import com.complete.todayspace.domain.post.service.PostService;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import com.complete.todayspace.global.dto.DataResponseDto;
+import com.complete.todayspace.global.dto.PageResponseDto;
 import com.complete.todayspace.global.dto.StatusResponseDto;
 import com.complete.todayspace.global.entity.SuccessCode;
 import com.complete.todayspace.global.exception.CustomException;
@@ -35,6 +37,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     private final PostService postService;
     private final LikeService likeService;
     private final CommentService commentService;
@@ -50,7 +54,7 @@ public class PostController {
     }
 
     @GetMapping("/posts")
-    public ResponseEntity<DataResponseDto<Page<PostResponseDto>>> getPostPage(
+    public ResponseEntity<DataResponseDto<PageResponseDto<PostResponseDto>>> getPostPage(
             @RequestParam(defaultValue = "1") String page,
             @RequestParam(defaultValue = "updatedAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String direction,
@@ -80,12 +84,29 @@ public class PostController {
             responseDto = postService.getPostPage(pageable);
         }
 
-        DataResponseDto<Page<PostResponseDto>> post = new DataResponseDto<>(SuccessCode.POSTS_GET, responseDto);
+        DataResponseDto<PageResponseDto<PostResponseDto>> post = new DataResponseDto<>(SuccessCode.POSTS_GET, new PageResponseDto<>(responseDto));
+        return new ResponseEntity<>(post, HttpStatus.OK);
+    }
+
+    // cursor 파라미터가 있으면 커서 방식으로 조회 (빈 값이면 첫 페이지)
+    @GetMapping(value = "/posts", params = {"hashtag", "cursor"})
+    public ResponseEntity<DataResponseDto<CursorResponseDto<PostResponseDto>>> getPostsByHashtagCursor(
+            @RequestParam String hashtag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        CursorResponseDto<PostResponseDto> responseDto = postService.getPostsByHashtagCursor(
+                hashtag,
+                cursor,
+                Math.min(Math.max(size, 1), MAX_CURSOR_SIZE)
+        );
+
+        DataResponseDto<CursorResponseDto<PostResponseDto>> post = new DataResponseDto<>(SuccessCode.POSTS_GET, responseDto);
         return new ResponseEntity<>(post, HttpStatus.OK);
     }
 
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<DataResponseDto<Page<CommentResponseDto>>> getComments(
+    public ResponseEntity<DataResponseDto<PageResponseDto<CommentResponseDto>>> getComments(
             @PathVariable @Min(1) Long postId,
             @RequestParam Map<String, String> params
     ) {
@@ -93,7 +114,7 @@ public class PostController {
 
         Pageable pageable = PageRequest.of(pageNumber, 5, Sort.by("createdAt").descending());
         Page<CommentResponseDto> comments = commentService.getCommentsByPostId(postId, pageable);
-        DataResponseDto<Page<CommentResponseDto>> responseDto = new DataResponseDto<>(SuccessCode.COMMENT_CREATE, comments);
+        DataResponseDto<PageResponseDto<CommentResponseDto>> responseDto = new DataResponseDto<>(SuccessCode.COMMENT_CREATE, new PageResponseDto<>(comments));
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
@@ -171,14 +192,14 @@ public class PostController {
     }
 
     @GetMapping("/posts/my")
-    public ResponseEntity<DataResponseDto<Page<MyPostResponseDto>>> getMyPostList(
+    public ResponseEntity<DataResponseDto<PageResponseDto<MyPostResponseDto>>> getMyPostList(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam Map<String, String> params
     ) {
         int page = PageValidation.pageValidationInParams(params);
 
         Page<MyPostResponseDto> responseDto = postService.getMyPostList(userDetails.getUser().getId(), page - 1);
-        DataResponseDto<Page<MyPostResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.POSTS_GET, responseDto);
+        DataResponseDto<PageResponseDto<MyPostResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.POSTS_GET, new PageResponseDto<>(responseDto));
 
         return new ResponseEntity<>(dataResponseDto, HttpStatus.OK);
     }
@@ -13,7 +13,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "table_post")
+@Table(name = "table_post", indexes = {
+    @Index(name = "idx_post_updated_at_id", columnList = "updated_at, id")
+})
 @NoArgsConstructor
 @Getter
 public class Post extends AllTimestamp {
@@ -8,4 +8,6 @@ public interface ImagePostRepository extends JpaRepository<ImagePost, Long> {
 
     List<ImagePost> findByPostId(Long postId);
 
+    List<ImagePost> findByPostIdIn(List<Long> postIds);
+
 }
@@ -2,13 +2,21 @@ package com.complete.todayspace.domain.post.repository;
 
 import com.complete.todayspace.domain.post.dto.MyPostResponseDto;
 import com.complete.todayspace.domain.post.dto.PostResponseDto;
+import com.complete.todayspace.domain.post.entitiy.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface PostRepositoryQuery {
 
     PostResponseDto findPostById(Long postId);
 
     Page<MyPostResponseDto> findMyPostList(Long userId, Pageable pageable);
 
+    Page<Post> findPostsByHashtag(Long hashtagListId, Pageable pageable);
+
+    List<Post> findPostsByHashtagAfter(Long hashtagListId, LocalDateTime updatedAt, Long postId, int limit);
+
 }
@@ -7,10 +7,12 @@ import com.complete.todayspace.domain.post.dto.MyPostResponseDto;
 import com.complete.todayspace.domain.post.dto.PostImageDto;
 import com.complete.todayspace.domain.post.dto.PostResponseDto;
 import com.complete.todayspace.domain.post.dto.QMyPostResponseDto;
+import com.complete.todayspace.domain.post.entitiy.Post;
 import com.complete.todayspace.domain.post.entitiy.QImagePost;
 import com.complete.todayspace.domain.post.entitiy.QPost;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
@@ -20,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -132,6 +135,52 @@ public class PostRepositoryQueryImpl implements PostRepositoryQuery{
         );
     }
 
+    @Override
+    public Page<Post> findPostsByHashtag(Long hashtagListId, Pageable pageable) {
+
+        List<Post> posts = jpaQueryFactory
+                .select(post)
+                .from(hashtag)
+                .join(hashtag.post, post)
+                .where(hashtag.hashtagList.id.eq(hashtagListId))
+                .orderBy(post.updatedAt.desc(), post.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(
+                posts,
+                pageable,
+                () -> Optional.ofNullable(
+                        jpaQueryFactory
+                                .select(hashtag.count())
+                                .from(hashtag)
+                                .where(hashtag.hashtagList.id.eq(hashtagListId))
+                                .fetchOne()
+                ).orElse(0L)
+        );
+    }
+
+    @Override
+    public List<Post> findPostsByHashtagAfter(Long hashtagListId, LocalDateTime updatedAt, Long postId, int limit) {
+
+        BooleanBuilder builder = new BooleanBuilder(hashtag.hashtagList.id.eq(hashtagListId));
+
+        if (updatedAt != null && postId != null) {
+            builder.and(post.updatedAt.lt(updatedAt)
+                    .or(post.updatedAt.eq(updatedAt).and(post.id.lt(postId))));
+        }
+
+        return jpaQueryFactory
+                .select(post)
+                .from(hashtag)
+                .join(hashtag.post, post)
+                .where(builder)
+                .orderBy(post.updatedAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     private void validateProductImage(MyPostResponseDto postResponseDto) {
         if (postResponseDto.getImagePath() == null) {
             throw new CustomException(ErrorCode.NO_REPRESENTATIVE_IMAGE_FOUND);
@@ -0,0 +1,97 @@
+package com.complete.todayspace.domain.post.service;
+
+import com.complete.todayspace.domain.common.S3Provider;
+import com.complete.todayspace.domain.hashtag.dto.HashtagDto;
+import com.complete.todayspace.domain.hashtag.entity.Hashtag;
+import com.complete.todayspace.domain.hashtag.repository.HashtagRepository;
+import com.complete.todayspace.domain.like.service.LikeCounter;
+import com.complete.todayspace.domain.post.dto.PostImageDto;
+import com.complete.todayspace.domain.post.dto.PostResponseDto;
+import com.complete.todayspace.domain.post.entitiy.ImagePost;
+import com.complete.todayspace.domain.post.entitiy.Post;
+import com.complete.todayspace.domain.post.repository.ImagePostRepository;
+import com.complete.todayspace.domain.user.entity.User;
+import com.complete.todayspace.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시글 목록의 이미지, 해시태그, 좋아요 수, 작성자를 종류별로 IN 쿼리 한 번씩 조회해서 조립
+@Component
+@RequiredArgsConstructor
+public class PostResponseAssembler {
+
+    private final ImagePostRepository imagePostRepository;
+    private final HashtagRepository hashtagRepository;
+    private final LikeCounter likeCounter;
+    private final UserRepository userRepository;
+    private final S3Provider s3Provider;
+
+    public Page<PostResponseDto> assemble(Page<Post> postPage) {
+        return new PageImpl<>(assemble(postPage.getContent()), postPage.getPageable(), postPage.getTotalElements());
+    }
+
+    public PostResponseDto assemble(Post post) {
+        return assemble(List.of(post)).get(0);
+    }
+
+    public List<PostResponseDto> assemble(List<Post> posts) {
+
+        if (posts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        Map<Long, List<PostImageDto>> images = imagePostRepository.findByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        image -> image.getPost().getId(),
+                        Collectors.mapping(this::toImageDto, Collectors.toList())
+                ));
+
+        Map<Long, List<HashtagDto>> hashtags = hashtagRepository.findByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        hashtag -> hashtag.getPost().getId(),
+                        Collectors.mapping(this::toHashtagDto, Collectors.toList())
+                ));
+
+        Map<Long, Long> likeCounts = likeCounter.counts(postIds);
+
+        List<Long> userIds = posts.stream().map(post -> post.getUser().getId()).distinct().toList();
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return posts.stream()
+                .map(post -> {
+                    User user = users.get(post.getUser().getId());
+
+                    return new PostResponseDto(
+                            post.getId(),
+                            post.getContent(),
+                            post.getUpdatedAt(),
+                            images.getOrDefault(post.getId(), Collections.emptyList()),
+                            hashtags.getOrDefault(post.getId(), Collections.emptyList()),
+                            likeCounts.getOrDefault(post.getId(), 0L),
+                            user != null ? user.getProfileImage() : null,
+                            user != null ? user.getUsername() : null
+                    );
+                })
+                .toList();
+    }
+
+    private PostImageDto toImageDto(ImagePost image) {
+        return new PostImageDto(image.getId(), image.getOrders(), s3Provider.getS3Url(image.getFilePath()));
+    }
+
+    private HashtagDto toHashtagDto(Hashtag hashtag) {
+        return new HashtagDto(hashtag.getHashtagList().getHashtagName());
+    }
+
+}
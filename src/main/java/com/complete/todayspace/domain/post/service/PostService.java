@@ -2,29 +2,39 @@ package com.complete.todayspace.domain.post.service;
 
 import com.complete.todayspace.domain.comment.entity.Comment;
 import com.complete.todayspace.domain.comment.repository.CommentRepository;
+import com.complete.todayspace.domain.common.LeaderboardProvider;
 import com.complete.todayspace.domain.common.S3Provider;
-import com.complete.todayspace.domain.hashtag.dto.HashtagDto;
 import com.complete.todayspace.domain.hashtag.entity.Hashtag;
 import com.complete.todayspace.domain.hashtag.entity.HashtagList;
 import com.complete.todayspace.domain.hashtag.repository.HashtagListRepository;
 import com.complete.todayspace.domain.hashtag.repository.HashtagRepository;
+import com.complete.todayspace.domain.hashtag.service.TrendingHashtags;
 import com.complete.todayspace.domain.like.entity.Like;
 import com.complete.todayspace.domain.like.repository.LikeRepository;
+import com.complete.todayspace.domain.like.service.LikeCounter;
 import com.complete.todayspace.domain.post.dto.*;
 import com.complete.todayspace.domain.post.entitiy.ImagePost;
 import com.complete.todayspace.domain.post.entitiy.Post;
 import com.complete.todayspace.domain.post.repository.ImagePostRepository;
 import com.complete.todayspace.domain.post.repository.PostRepository;
 import com.complete.todayspace.domain.user.entity.User;
+import com.complete.todayspace.global.aop.Tracked;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
+import com.complete.todayspace.global.valid.CursorValidation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +48,10 @@ public class PostService {
     private final HashtagListRepository hashtagListRepository;
     private final HashtagRepository hashtagRepository;
     private final CommentRepository commentRepository;
+    private final PostResponseAssembler postResponseAssembler;
+    private final LikeCounter likeCounter;
+    private final LeaderboardProvider leaderboardProvider;
+    private final TrendingHashtags trendingHashtags;
 
     @Transactional
     public void createPost(User user, CreatePostRequestDto requestDto) {
@@ -64,13 +78,15 @@ public class PostService {
                 Hashtag hashtag = new Hashtag(hashtagList, savePost);
                 hashtagRepository.save(hashtag);
             }
+
+            trendingHashtags.add(hashtags);
         }
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getPostPage(Pageable pageable) {
         Page<Post> postPage = postRepository.findAll(pageable);
-        return getPostResponseDto(postPage);
+        return postResponseAssembler.assemble(postPage);
     }
 
     @Transactional(readOnly = true)
@@ -80,31 +96,40 @@ public class PostService {
             throw new CustomException(ErrorCode.HASHTAG_NOT_FOUND);
         }
 
-        List<Hashtag> hashtags = hashtagRepository.findByHashtagList(hashtagList);
-        List<PostResponseDto> posts = hashtags.stream()
-                .map(hashtagEntity -> {
-                    Post post = hashtagEntity.getPost();
-                    List<PostImageDto> imageDtos = imagePostRepository.findByPostId(post.getId()).stream()
-                            .map(image -> new PostImageDto(image.getId(), image.getOrders(), s3Provider.getS3Url(image.getFilePath())))
-                            .collect(Collectors.toList());
+        Page<Post> postPage = postRepository.findPostsByHashtag(hashtagList.getId(), pageable);
+        return postResponseAssembler.assemble(postPage);
+    }
 
-                    List<HashtagDto> hashtagDtos = hashtagRepository.findByPostId(post.getId()).stream()
-                            .map(tagEntity -> new HashtagDto(tagEntity.getHashtagList().getHashtagName()))
-                            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PostResponseDto> getPostsByHashtagCursor(String hashtag, String cursor, int size) {
+        HashtagList hashtagList = hashtagListRepository.findByHashtagName(hashtag);
+        if (hashtagList == null) {
+            throw new CustomException(ErrorCode.HASHTAG_NOT_FOUND);
+        }
 
-                    long likeCount = likeRepository.countByPostId(post.getId());
-                    String profileImage = post.getUser().getProfileImage();
-                    String nickname = post.getUser().getUsername();
+        LocalDateTime updatedAt = null;
+        Long postId = null;
 
-                    return new PostResponseDto(post.getId(), post.getContent(), post.getUpdatedAt(), imageDtos, hashtagDtos, likeCount, profileImage, nickname);
-                })
-                .sorted(Comparator.comparing(PostResponseDto::getUpdatedAt).reversed())
-                .collect(Collectors.toList());
+        if (cursor != null && !cursor.isBlank()) {
+            String[] values = CursorValidation.decodeCursor(cursor, 2);
+            try {
+                updatedAt = LocalDateTime.parse(values[0]);
+                postId = Long.parseLong(values[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), posts.size());
+        List<Post> posts = postRepository.findPostsByHashtagAfter(hashtagList.getId(), updatedAt, postId, size + 1);
+
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts = posts.subList(0, size);
+            Post last = posts.get(size - 1);
+            nextCursor = CursorValidation.encodeCursor(last.getUpdatedAt(), last.getId());
+        }
 
-        return new PageImpl<>(posts.subList(start, end), pageable, posts.size());
+        return new CursorResponseDto<>(postResponseAssembler.assemble(posts), nextCursor);
     }
 
     @Transactional
@@ -143,13 +168,17 @@ public class PostService {
                 HashtagList hashtagList = hashtagListRepository.findByHashtagName(tagName);
                 if (hashtagList != null) {
                     Optional<Hashtag> hashtag = hashtagRepository.findByPostIdAndHashtagListId(post.getId(), hashtagList.getId());
-                    hashtag.ifPresent(hashtagRepository::delete);
+                    hashtag.ifPresent(deleteHashtag -> {
+                        hashtagRepository.delete(deleteHashtag);
+                        trendingHashtags.remove(tagName, deleteHashtag.getCreatedAt());
+                    });
                 }
             }
         }
 
         List<String> newHashtags = requestDto.getHashtags();
         if (newHashtags != null && !newHashtags.isEmpty()) {
+            List<String> addedHashtags = new ArrayList<>();
             for (String tagName : newHashtags) {
                 HashtagList hashtagList = hashtagListRepository.findByHashtagName(tagName);
                 if (hashtagList == null) {
@@ -160,8 +189,10 @@ public class PostService {
                 if (hashtagRepository.findByPostIdAndHashtagListId(post.getId(), hashtagList.getId()).isEmpty()) {
                     Hashtag newHashtag = new Hashtag(hashtagList, post);
                     hashtagRepository.save(newHashtag);
+                    addedHashtags.add(tagName);
                 }
             }
+            trendingHashtags.add(addedHashtags);
         }
     }
 
@@ -179,6 +210,7 @@ public class PostService {
 
         List<Hashtag> hashtags = hashtagRepository.findByPostId(postId);
         for (Hashtag hashtag : hashtags) {
+            trendingHashtags.remove(hashtag.getHashtagList().getHashtagName(), hashtag.getCreatedAt());
             hashtagRepository.delete(hashtag);
         }
 
@@ -195,9 +227,11 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        likeCounter.evict(postId);
     }
 
     @Transactional(readOnly = true)
+    @Tracked
     public Page<MyPostResponseDto> getMyPostList(Long id, int page) {
 
         int size = 6;
@@ -214,52 +248,29 @@ public class PostService {
         return postList;
     }
 
+    @Transactional(readOnly = true)
     public Page<PostResponseDto> getTopLikedPosts(PageRequest pageRequest) {
-        int size = 4;
-        Page<Post> postPage = likeRepository.findTopLikedPosts(PageRequest.of(1, size));
-        return getPostResponseDto(postPage);
-    }
-
-    private Page<PostResponseDto> getPostResponseDto(Page<Post> postPage) {
-        return postPage.map(post -> {
-            List<ImagePost> images = imagePostRepository.findByPostId(post.getId());
-            List<PostImageDto> imageDtos = images.stream()
-                    .map(image -> new PostImageDto(image.getId(), image.getOrders(), s3Provider.getS3Url(image.getFilePath())))
-                    .collect(Collectors.toList());
+        List<Long> postIds = leaderboardProvider.top(LeaderboardProvider.TOP_LIKED_POSTS, pageRequest.getPageSize());
 
-            List<Hashtag> hashtags = hashtagRepository.findByPostId(post.getId());
-            List<HashtagDto> hashtagDtos = hashtags.stream()
-                    .map(hashtag -> new HashtagDto(hashtag.getHashtagList().getHashtagName()))
-                    .collect(Collectors.toList());
+        if (postIds.isEmpty()) {
+            Page<Post> postPage = likeRepository.findTopLikedPosts(PageRequest.of(0, pageRequest.getPageSize()));
+            return postResponseAssembler.assemble(postPage);
+        }
 
-            long likeCount = likeRepository.countByPostId(post.getId());
+        Map<Long, Post> postMap = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-            String profileImage = post.getUser().getProfileImage();
-            String nickname = post.getUser().getUsername();
+        List<Post> posts = postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-            return new PostResponseDto(post.getId(), post.getContent(), post.getUpdatedAt(), imageDtos, hashtagDtos, likeCount, profileImage, nickname);
-        });
+        return new PageImpl<>(postResponseAssembler.assemble(posts), pageRequest, posts.size());
     }
 
     @Transactional(readOnly = true)
     public PostResponseDto getPost(Long postId) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        List<ImagePost> images = imagePostRepository.findByPostId(postId);
-        List<PostImageDto> imageDtos = images.stream()
-                .map(image -> new PostImageDto(image.getId(), image.getOrders(), s3Provider.getS3Url(image.getFilePath())))
-                .collect(Collectors.toList());
-
-        List<Hashtag> hashtags = hashtagRepository.findByPostId(post.getId());
-        List<HashtagDto> hashtagDtos = hashtags.stream()
-                .map(hashtag -> new HashtagDto(hashtag.getHashtagList().getHashtagName()))
-                .collect(Collectors.toList());
-
-        long likeCount = likeRepository.countByPostId(post.getId());
-
-        String profileImage = post.getUser().getProfileImage();
-        String nickname = post.getUser().getUsername();
-
-        return new PostResponseDto(post.getId(), post.getContent(), post.getUpdatedAt(), imageDtos, hashtagDtos, likeCount, profileImage, nickname);
+        return postResponseAssembler.assemble(post);
     }
 }
@@ -1,7 +1,9 @@
 package com.complete.todayspace.domain.product.controller;
 
 import com.complete.todayspace.domain.product.dto.*;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import com.complete.todayspace.global.dto.DataResponseDto;
+import com.complete.todayspace.global.dto.PageResponseDto;
 import com.complete.todayspace.global.valid.PageValidation;
 import java.util.Map;
 import org.springframework.data.domain.Page;
@@ -96,7 +98,7 @@ public class ProductController {
     }
 
     @GetMapping("/products")
-    public ResponseEntity<DataResponseDto<Page<ProductResponseDto>>> getProductPage(
+    public ResponseEntity<DataResponseDto<PageResponseDto<ProductResponseDto>>> getProductPage(
         @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable,
         @ModelAttribute PageParamDto pageParamDto
     ) {
@@ -106,13 +108,26 @@ public class ProductController {
 
         Page<ProductResponseDto> responseDto = productService.getResponseDto(pageable, pageParamDto);
 
-        DataResponseDto<Page<ProductResponseDto>> product = new DataResponseDto<>(
+        DataResponseDto<PageResponseDto<ProductResponseDto>> product = new DataResponseDto<>(
+            SuccessCode.PRODUCTS_GET, new PageResponseDto<>(responseDto));
+        return new ResponseEntity<>(product, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/products", params = "cursor")
+    public ResponseEntity<DataResponseDto<CursorResponseDto<ProductResponseDto>>> getProductCursor(
+        @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable,
+        @ModelAttribute PageParamDto pageParamDto
+    ) {
+
+        CursorResponseDto<ProductResponseDto> responseDto = productService.getProductCursor(pageable, pageParamDto);
+
+        DataResponseDto<CursorResponseDto<ProductResponseDto>> product = new DataResponseDto<>(
             SuccessCode.PRODUCTS_GET, responseDto);
         return new ResponseEntity<>(product, HttpStatus.OK);
     }
 
     @GetMapping("/products/my")
-    public ResponseEntity<DataResponseDto<Page<ProductResponseDto>>> getMyProductList(
+    public ResponseEntity<DataResponseDto<PageResponseDto<ProductResponseDto>>> getMyProductList(
         @AuthenticationPrincipal UserDetailsImpl userDetails,
         @RequestParam Map<String, String> params
     ) {
@@ -122,8 +137,8 @@ public class ProductController {
         Page<ProductResponseDto> responseDto = productService.getMyProductList(
             userDetails.getUser().getId(), page - 1);
 
-        DataResponseDto<Page<ProductResponseDto>> dataResponseDto = new DataResponseDto<>(
-            SuccessCode.PRODUCTS_GET, responseDto);
+        DataResponseDto<PageResponseDto<ProductResponseDto>> dataResponseDto = new DataResponseDto<>(
+            SuccessCode.PRODUCTS_GET, new PageResponseDto<>(responseDto));
 
         return new ResponseEntity<>(dataResponseDto, HttpStatus.OK);
     }
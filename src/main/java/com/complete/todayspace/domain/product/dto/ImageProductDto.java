@@ -1,5 +1,6 @@
 package com.complete.todayspace.domain.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
@@ -8,6 +9,7 @@ public class ImageProductDto {
     private final Long id;
     private final String imagePath;
 
+    @JsonCreator
     public ImageProductDto(Long id, String imagePath) {
         this.id = id;
         this.imagePath = imagePath;
@@ -9,12 +9,14 @@ public class PageParamDto {
     private final String search;
     private final String region;
     private final Boolean topWished;
+    private final String cursor;
 
-    public PageParamDto (String page, String search, String region, Boolean topWished) {
+    public PageParamDto (String page, String search, String region, Boolean topWished, String cursor) {
 
         this.page = page;
         this.search = search;
         this.region = region;
         this.topWished = topWished;
+        this.cursor = cursor;
     }
 }
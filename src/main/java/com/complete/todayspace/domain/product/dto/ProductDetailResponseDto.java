@@ -4,6 +4,7 @@ import com.complete.todayspace.domain.product.entity.Address;
 import com.complete.todayspace.domain.product.entity.State;
 import java.time.LocalDateTime;
 import java.util.List;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
@@ -23,6 +24,7 @@ public class ProductDetailResponseDto {
     private final boolean paymentState;
     private final String paymentUser;
 
+    @JsonCreator
     public ProductDetailResponseDto(Long id, Long userId, String userName, String userImagePath, Long price, String title,
         String content, Address address,
         State state, LocalDateTime upDateAt, List<ImageProductDto> imageUrlList, boolean paymentState, String paymentUser) {
@@ -11,9 +11,13 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "table_product")
+@Table(name = "table_product", indexes = {
+    @Index(name = "idx_product_updated_at_id", columnList = "updated_at, id"),
+    @Index(name = "idx_product_price_id", columnList = "price, id")
+})
 @NoArgsConstructor
 @Getter
 public class Product extends AllTimestamp {
@@ -39,6 +43,13 @@ public class Product extends AllTimestamp {
     @Enumerated(EnumType.STRING)
     private State state;
 
+    @Column
+    private String thumbnailPath;
+
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean soldOut;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -78,4 +89,12 @@ public class Product extends AllTimestamp {
         this.address = requestDto.getAddress();
         this.state = requestDto.getState();
     }
+
+    public void updateThumbnailPath(String thumbnailPath) {
+        this.thumbnailPath = thumbnailPath;
+    }
+
+    public void updateSoldOut(boolean soldOut) {
+        this.soldOut = soldOut;
+    }
 }
@@ -0,0 +1,35 @@
+package com.complete.todayspace.domain.product.repository;
+
+import com.complete.todayspace.domain.product.entity.Address;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 피드 total 은 근사치로 충분하므로 (지역, 검색어) 별로 짧게 캐싱 (등록 / 삭제는 무효화하지 않고 TTL 이 지나면 반영)
+@Component
+public class ProductCountCache {
+
+    private final Cache<String, Long> counts;
+
+    public ProductCountCache(
+        @Value("${product.count-cache.ttl-ms:10000}") long ttlMillis,
+        @Value("${product.count-cache.max-size:1000}") long maxSize
+    ) {
+        this.counts = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    public long get(Address address, String search, Supplier<Long> countQuery) {
+
+        String key = (address == null ? "ALL" : address.name()) + ":" + (search == null ? "" : search);
+
+        return counts.get(key, k -> countQuery.get());
+    }
+
+}
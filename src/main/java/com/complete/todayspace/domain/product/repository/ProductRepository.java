@@ -1,11 +1,15 @@
 package com.complete.todayspace.domain.product.repository;
 
+import com.complete.todayspace.domain.payment.entity.State;
 import com.complete.todayspace.domain.product.dto.ProductResponseDto;
 import com.complete.todayspace.domain.product.entity.Address;
 import com.complete.todayspace.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
@@ -29,4 +33,20 @@ public interface ProductRepository extends JpaRepository<Product, Long>,
 
     List<Product> findAllByUserId(Long id);
 
+    @Query("select p.id from Product p where p.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update Product p set p.thumbnailPath = "
+        + "(select i.filePath from ImageProduct i where i.id = "
+        + "(select min(i2.id) from ImageProduct i2 where i2.product = p)) "
+        + "where p.thumbnailPath is null")
+    int backfillThumbnailPath();
+
+    @Modifying
+    @Query("update Product p set p.soldOut = "
+        + "(case when exists (select 1 from Payment pay where pay.product = p and pay.state = :state) "
+        + "then true else false end)")
+    int backfillSoldOut(@Param("state") State state);
+
 }
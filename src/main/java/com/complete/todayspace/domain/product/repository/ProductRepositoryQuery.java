@@ -2,18 +2,23 @@ package com.complete.todayspace.domain.product.repository;
 
 import com.complete.todayspace.domain.product.dto.ProductResponseDto;
 import com.complete.todayspace.domain.product.entity.Address;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
 
 public interface ProductRepositoryQuery {
   
     Page<ProductResponseDto> findMyProductList(Long userId, Pageable pageable);
   
-    Page<ProductResponseDto> findProductsByTitleLike(Pageable pageable, String search);
-    Page<ProductResponseDto> findByTitleContainingIgnoreCaseAndAddress(Pageable pageable, String search, Address address);
-    Page<ProductResponseDto> findByTitleContainingIgnoreCase(Pageable pageable, String search);
+    Page<ProductResponseDto> searchByTitleTrigram(Pageable pageable, String search, Address address);
+    List<ProductResponseDto> findProductsByIdIn(List<Long> ids);
 
     Page<ProductResponseDto> findProducts(Pageable pageable);
     Page<ProductResponseDto> findAllByAddress(Pageable pageable, Address address);
 
+    CursorResponseDto<ProductResponseDto> findProductsByCursor(Sort.Order order, int size, String search, Address address, String cursor);
+
 }
@@ -1,27 +1,30 @@
 package com.complete.todayspace.domain.product.repository;
 
-import com.complete.todayspace.domain.payment.entity.QPayment;
-import com.complete.todayspace.domain.payment.entity.State;
 import com.complete.todayspace.domain.product.dto.ProductResponseDto;
 import com.complete.todayspace.domain.product.dto.QProductResponseDto;
 import com.complete.todayspace.domain.product.entity.Address;
-import com.complete.todayspace.domain.product.entity.QImageProduct;
 import com.complete.todayspace.domain.product.entity.QProduct;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
+import com.complete.todayspace.global.dto.CursorResponseDto;
+import com.complete.todayspace.global.valid.CursorValidation;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -31,31 +34,21 @@ import java.util.Optional;
 public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final ProductCountCache productCountCache;
 
     @Override
     public Page<ProductResponseDto> findMyProductList(Long userId, Pageable pageable) {
 
         QProduct product = QProduct.product;
-        QImageProduct imageProduct = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
 
         List<ProductResponseDto> productList = jpaQueryFactory
                 .select(new QProductResponseDto(
                         product.id,
                         product.price,
                         product.title,
-                        JPAExpressions
-                                .select(imageProduct.filePath)
-                                .from(imageProduct)
-                                .where(imageProduct.id.eq(
-                                        JPAExpressions
-                                                .select(imageProduct.id.min())
-                                                .from(imageProduct)
-                                                .where(imageProduct.product.id.eq(product.id))
-                                )),
-                        payment.state.when(State.COMPLATE).then(true).otherwise(false)
+                        product.thumbnailPath,
+                        product.soldOut
                 )).from(product)
-                .leftJoin(payment).on(payment.product.id.eq(product.id))
                 .where(product.user.id.eq(userId))
                 .orderBy(product.id.desc())
                 .offset(pageable.getOffset())
@@ -78,12 +71,21 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
     }
 
     @Override
-    public Page<ProductResponseDto> findProductsByTitleLike(Pageable pageable, String search) {
+    public Page<ProductResponseDto> searchByTitleTrigram(Pageable pageable, String search, Address address) {
+
         QProduct product = QProduct.product;
-        QImageProduct imageProduct  = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
 
-        List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifier(pageable.getSort(), product);
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(Expressions.booleanTemplate("{0} ilike {1}", product.title, "%" + escapeLike(search) + "%"));
+
+        if (address != null) {
+            builder.and(product.address.eq(address));
+        }
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        orderSpecifiers.add(Expressions.numberTemplate(Double.class, "function('similarity', {0}, {1})",
+            product.title, search).desc());
+        orderSpecifiers.addAll(getOrderSpecifier(pageable.getSort(), product));
 
         List<ProductResponseDto> products = jpaQueryFactory
             .select(Projections.constructor(
@@ -91,20 +93,11 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
                 product.id,
                 product.price,
                 product.title,
-                    JPAExpressions
-                            .select(imageProduct.filePath)
-                            .from(imageProduct)
-                            .where(imageProduct.id.eq(
-                                    JPAExpressions
-                                            .select(imageProduct.id.min())
-                                            .from(imageProduct)
-                                            .where(imageProduct.product.id.eq(product.id))
-                            )),
-                    payment.state.when(State.COMPLATE).then(true).otherwise(false)
+                product.thumbnailPath,
+                product.soldOut
             ))
             .from(product)
-            .leftJoin(product.payment, payment)
-            .where(product.title.like("%" + search + "%"))
+            .where(builder)
             .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
@@ -112,64 +105,49 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
 
         products.forEach(this::validateProductImage);
 
-        long total = jpaQueryFactory.selectFrom(product)
-            .where(product.title.like("%" + search + "%"))
-            .fetch().size();
-
-        return new PageImpl<>(products, pageable, total);
+        return PageableExecutionUtils.getPage(
+            products,
+            pageable,
+            () -> productCountCache.get(address, search, () -> Optional.ofNullable(
+                jpaQueryFactory
+                    .select(product.count())
+                    .from(product)
+                    .where(builder)
+                    .fetchOne()
+            ).orElse(0L))
+        );
     }
 
     @Override
-    public Page<ProductResponseDto> findByTitleContainingIgnoreCaseAndAddress(Pageable pageable, String search,
-        Address address) {
+    public List<ProductResponseDto> findProductsByIdIn(List<Long> ids) {
 
-        QProduct product = QProduct.product;
-        QImageProduct imageProduct  = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifier(pageable.getSort(), product);
+        QProduct product = QProduct.product;
 
         List<ProductResponseDto> products = jpaQueryFactory
-            .select(Projections.constructor(
-                ProductResponseDto.class,
+            .select(new QProductResponseDto(
                 product.id,
                 product.price,
                 product.title,
-                JPAExpressions
-                    .select(imageProduct.filePath)
-                    .from(imageProduct)
-                    .where(imageProduct.id.eq(
-                        JPAExpressions
-                            .select(imageProduct.id.min())
-                            .from(imageProduct)
-                            .where(imageProduct.product.id.eq(product.id))
-                    )),
-                payment.state.when(State.COMPLATE).then(true).otherwise(false)
+                product.thumbnailPath,
+                product.soldOut
             ))
             .from(product)
-            .where(product.address.eq(address).and(product.title.like("%" + search + "%")))
-            .leftJoin(product.payment, payment)
-            .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .where(product.id.in(ids))
             .fetch();
 
         products.forEach(this::validateProductImage);
 
-        long total = jpaQueryFactory.selectFrom(product)
-            .where(product.address.eq(address).and(product.title.like("%" + search + "%")))
-            .fetch().size();
-
-        return new PageImpl<>(products, pageable, total);
-
+        return products;
     }
 
     @Override
-    public Page<ProductResponseDto> findByTitleContainingIgnoreCase(Pageable pageable, String search) {
+    public Page<ProductResponseDto> findProducts(Pageable pageable) {
 
         QProduct product = QProduct.product;
-        QImageProduct imageProduct  = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
 
         List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifier(pageable.getSort(), product);
 
@@ -179,20 +157,10 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
                 product.id,
                 product.price,
                 product.title,
-                JPAExpressions
-                    .select(imageProduct.filePath)
-                    .from(imageProduct)
-                    .where(imageProduct.id.eq(
-                        JPAExpressions
-                            .select(imageProduct.id.min())
-                            .from(imageProduct)
-                            .where(imageProduct.product.id.eq(product.id))
-                    )),
-                payment.state.when(State.COMPLATE).then(true).otherwise(false)
+                product.thumbnailPath,
+                product.soldOut
             ))
             .from(product)
-            .where(product.title.like("%" + search + "%"))
-            .leftJoin(product.payment, payment)
             .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
@@ -200,20 +168,23 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
 
         products.forEach(this::validateProductImage);
 
-        long total = jpaQueryFactory.selectFrom(product)
-            .where(product.title.like("%" + search + "%"))
-            .fetch().size();
-
-        return new PageImpl<>(products, pageable, total);
+        return PageableExecutionUtils.getPage(
+            products,
+            pageable,
+            () -> productCountCache.get(null, null, () -> Optional.ofNullable(
+                jpaQueryFactory
+                    .select(product.count())
+                    .from(product)
+                    .fetchOne()
+            ).orElse(0L))
+        );
 
     }
 
     @Override
-    public Page<ProductResponseDto> findProducts(Pageable pageable) {
+    public Page<ProductResponseDto> findAllByAddress(Pageable pageable, Address address) {
 
         QProduct product = QProduct.product;
-        QImageProduct imageProduct  = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
 
         List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifier(pageable.getSort(), product);
 
@@ -223,19 +194,11 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
                 product.id,
                 product.price,
                 product.title,
-                    JPAExpressions
-                            .select(imageProduct.filePath)
-                            .from(imageProduct)
-                            .where(imageProduct.id.eq(
-                                    JPAExpressions
-                                            .select(imageProduct.id.min())
-                                            .from(imageProduct)
-                                            .where(imageProduct.product.id.eq(product.id))
-                            )),
-                    payment.state.when(State.COMPLATE).then(true).otherwise(false)
+                product.thumbnailPath,
+                product.soldOut
             ))
             .from(product)
-            .leftJoin(product.payment, payment)
+            .where(product.address.eq(address))
             .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
@@ -243,54 +206,122 @@ public class ProductRepositoryQueryImpl implements ProductRepositoryQuery {
 
         products.forEach(this::validateProductImage);
 
-        long total = jpaQueryFactory.selectFrom(product)
-            .fetch().size();
-
-        return new PageImpl<>(products, pageable, total);
-
+        return PageableExecutionUtils.getPage(
+            products,
+            pageable,
+            () -> productCountCache.get(address, null, () -> Optional.ofNullable(
+                jpaQueryFactory
+                    .select(product.count())
+                    .from(product)
+                    .where(product.address.eq(address))
+                    .fetchOne()
+            ).orElse(0L))
+        );
     }
 
     @Override
-    public Page<ProductResponseDto> findAllByAddress(Pageable pageable, Address address) {
+    public CursorResponseDto<ProductResponseDto> findProductsByCursor(Sort.Order order, int size, String search,
+        Address address, String cursor) {
 
         QProduct product = QProduct.product;
-        QImageProduct imageProduct  = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
 
-        List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifier(pageable.getSort(), product);
+        boolean sortByPrice = order.getProperty().equals("price");
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
 
-        List<ProductResponseDto> products = jpaQueryFactory
-            .select(Projections.constructor(
-                ProductResponseDto.class,
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (search != null) {
+            builder.and(product.title.contains(search));
+        }
+
+        if (address != null) {
+            builder.and(product.address.eq(address));
+        }
+
+        if (cursor != null && !cursor.isBlank()) {
+            builder.and(getCursorCondition(product, sortByPrice, direction, cursor));
+        }
+
+        List<Tuple> tuples = jpaQueryFactory
+            .select(
                 product.id,
                 product.price,
                 product.title,
-                JPAExpressions
-                    .select(imageProduct.filePath)
-                    .from(imageProduct)
-                    .where(imageProduct.id.eq(
-                        JPAExpressions
-                            .select(imageProduct.id.min())
-                            .from(imageProduct)
-                            .where(imageProduct.product.id.eq(product.id))
-                    )),
-                payment.state.when(State.COMPLATE).then(true).otherwise(false)
-            ))
+                product.thumbnailPath,
+                product.soldOut,
+                product.updatedAt
+            )
             .from(product)
-            .where(product.address.eq(address))
-            .leftJoin(product.payment, payment)
-            .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .where(builder)
+            .orderBy(
+                sortByPrice ? new OrderSpecifier<>(direction, product.price) : new OrderSpecifier<>(direction, product.updatedAt),
+                new OrderSpecifier<>(direction, product.id)
+            )
+            .limit(size + 1)
             .fetch();
 
+        boolean hasNext = tuples.size() > size;
+
+        if (hasNext) {
+            tuples = tuples.subList(0, size);
+        }
+
+        List<ProductResponseDto> products = tuples.stream()
+            .map(tuple -> new ProductResponseDto(
+                tuple.get(0, Long.class),
+                tuple.get(1, Long.class),
+                tuple.get(2, String.class),
+                tuple.get(3, String.class),
+                Boolean.TRUE.equals(tuple.get(4, Boolean.class))
+            ))
+            .toList();
+
         products.forEach(this::validateProductImage);
 
-        long total = jpaQueryFactory.selectFrom(product)
-            .where(product.address.eq(address))
-            .fetch().size();
+        String nextCursor = null;
+
+        if (hasNext) {
+            Tuple last = tuples.get(tuples.size() - 1);
+            Object sortValue = sortByPrice ? last.get(product.price) : last.get(product.updatedAt);
+            nextCursor = CursorValidation.encodeCursor(order.getProperty(), sortValue, last.get(product.id));
+        }
+
+        return new CursorResponseDto<>(products, nextCursor);
+    }
+
+    private BooleanExpression getCursorCondition(QProduct product, boolean sortByPrice, Order direction, String cursor) {
+
+        String[] values = CursorValidation.decodeCursor(cursor, 3);
+
+        if (!values[0].equals(sortByPrice ? "price" : "updatedAt")) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+
+            Long id = Long.parseLong(values[2]);
+
+            if (sortByPrice) {
+                Long price = Long.parseLong(values[1]);
+
+                return direction == Order.ASC
+                    ? product.price.gt(price).or(product.price.eq(price).and(product.id.gt(id)))
+                    : product.price.lt(price).or(product.price.eq(price).and(product.id.lt(id)));
+            }
+
+            LocalDateTime updatedAt = LocalDateTime.parse(values[1]);
+
+            return direction == Order.ASC
+                ? product.updatedAt.gt(updatedAt).or(product.updatedAt.eq(updatedAt).and(product.id.gt(id)))
+                : product.updatedAt.lt(updatedAt).or(product.updatedAt.eq(updatedAt).and(product.id.lt(id)));
+
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
 
-        return new PageImpl<>(products, pageable, total);
+    private String escapeLike(String search) {
+        return search.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     private void validateProductImage(ProductResponseDto productDto) {
@@ -0,0 +1,198 @@
+package com.complete.todayspace.domain.product.search;
+
+import com.complete.todayspace.domain.product.dto.ProductResponseDto;
+import com.complete.todayspace.domain.product.entity.Address;
+import com.complete.todayspace.domain.product.entity.Product;
+import com.complete.todayspace.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// pg_trgm 을 쓸 수 없는 환경(H2 테스트 등)을 위한 메모리 n-gram(1, 2-gram) 역색인
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "ngram")
+public class NgramProductSearchIndex implements ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedProduct> documents = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        productRepository.findAll().forEach(product ->
+            indexNow(product.getId(), product.getTitle(), product.getAddress()));
+    }
+
+    @Override
+    public Page<ProductResponseDto> search(String keyword, Address address, Pageable pageable) {
+
+        String query = normalize(keyword);
+
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Set<String> queryGrams = grams(query, query.length() > 1 ? 2 : 1);
+        Set<Long> candidates = null;
+
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.getOrDefault(gram, Collections.emptySet());
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+        }
+
+        List<ScoredProduct> matches = new ArrayList<>();
+
+        for (Long id : candidates) {
+            IndexedProduct document = documents.get(id);
+
+            if (document == null || !document.title.contains(query)) {
+                continue;
+            }
+
+            if (address != null && address != document.address) {
+                continue;
+            }
+
+            matches.add(new ScoredProduct(id, (double) query.length() / document.title.length()));
+        }
+
+        matches.sort(Comparator.comparingDouble((ScoredProduct match) -> match.score).reversed()
+            .thenComparing(match -> match.id, Comparator.reverseOrder()));
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+
+        List<Long> pageIds = matches.subList(from, to).stream().map(match -> match.id).toList();
+
+        Map<Long, ProductResponseDto> products = productRepository.findProductsByIdIn(pageIds).stream()
+            .collect(Collectors.toMap(ProductResponseDto::getId, Function.identity()));
+
+        List<ProductResponseDto> content = pageIds.stream()
+            .map(products::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    @Override
+    public void index(Product product) {
+
+        Long productId = product.getId();
+        String title = product.getTitle();
+        Address address = product.getAddress();
+
+        afterCommit(() -> indexNow(productId, title, address));
+    }
+
+    @Override
+    public void remove(Long productId) {
+        afterCommit(() -> removeNow(productId));
+    }
+
+    // 롤백된 등록 / 수정 / 삭제가 검색 결과에 남지 않도록 커밋 이후에 반영
+    private void afterCommit(Runnable task) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+
+        task.run();
+    }
+
+    private void indexNow(Long productId, String rawTitle, Address address) {
+
+        removeNow(productId);
+
+        String title = normalize(rawTitle);
+        documents.put(productId, new IndexedProduct(title, address));
+
+        for (int n = 1; n <= 2; n++) {
+            for (String gram : grams(title, n)) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(productId);
+            }
+        }
+    }
+
+    private void removeNow(Long productId) {
+
+        IndexedProduct document = documents.remove(productId);
+
+        if (document == null) {
+            return;
+        }
+
+        for (int n = 1; n <= 2; n++) {
+            for (String gram : grams(document.title, n)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(productId);
+                }
+            }
+        }
+    }
+
+    private String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    private Set<String> grams(String text, int n) {
+
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+
+        return grams;
+    }
+
+    private static class IndexedProduct {
+
+        private final String title;
+        private final Address address;
+
+        private IndexedProduct(String title, Address address) {
+            this.title = title;
+            this.address = address;
+        }
+    }
+
+    private static class ScoredProduct {
+
+        private final Long id;
+        private final double score;
+
+        private ScoredProduct(Long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+}
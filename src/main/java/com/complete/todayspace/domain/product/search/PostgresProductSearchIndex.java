@@ -0,0 +1,36 @@
+package com.complete.todayspace.domain.product.search;
+
+import com.complete.todayspace.domain.product.dto.ProductResponseDto;
+import com.complete.todayspace.domain.product.entity.Address;
+import com.complete.todayspace.domain.product.entity.Product;
+import com.complete.todayspace.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+// pg_trgm GIN 인덱스(db/migration/V2)로 '%검색어%' 조회를 처리
+// pg_trgm 은 lc_ctype 기준으로 글자를 판단하므로 한글 제목이 인덱싱되려면 DB 가 UTF-8 로케일(C 로케일 X)이어야 함
+// 1 ~ 2 글자 검색어는 trigram 을 만들 수 없어 인덱스를 타지 못하고 순차 탐색으로 동작
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresProductSearchIndex implements ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public Page<ProductResponseDto> search(String keyword, Address address, Pageable pageable) {
+        return productRepository.searchByTitleTrigram(pageable, keyword, address);
+    }
+
+    @Override
+    public void index(Product product) {
+    }
+
+    @Override
+    public void remove(Long productId) {
+    }
+
+}
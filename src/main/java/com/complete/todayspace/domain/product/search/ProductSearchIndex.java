@@ -0,0 +1,18 @@
+package com.complete.todayspace.domain.product.search;
+
+import com.complete.todayspace.domain.product.dto.ProductResponseDto;
+import com.complete.todayspace.domain.product.entity.Address;
+import com.complete.todayspace.domain.product.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProductSearchIndex {
+
+    // address 가 null 이면 전체 지역
+    Page<ProductResponseDto> search(String keyword, Address address, Pageable pageable);
+
+    void index(Product product);
+
+    void remove(Long productId);
+
+}
@@ -0,0 +1,217 @@
+package com.complete.todayspace.domain.product.service;
+
+import com.complete.todayspace.domain.product.dto.ProductDetailResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 상품 상세 캐시 - L1(로컬 Caffeine) + L2(Redis)
+// L1 TTL 을 짧게 두어 다른 인스턴스의 변경도 수 초 안에 반영
+// product:detail:version:{id} - 삭제할 때마다 증가, 조회 전에 읽은 버전이 그대로일 때만 캐시를 채움
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private static final String KEY_PREFIX = "product:detail:";
+    private static final String VERSION_PREFIX = "product:detail:version:";
+
+    // KEYS[1] = 버전, KEYS[2] = 상세, ARGV[1] = 조회 전 버전, ARGV[2] = 값, ARGV[3] = TTL(초)
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then return 0 end "
+            + "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    // KEYS = (버전, 상세) 쌍, ARGV[1] = 버전 TTL(초)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 2 do "
+            + "  redis.call('INCR', KEYS[i]) "
+            + "  redis.call('EXPIRE', KEYS[i], ARGV[1]) "
+            + "  redis.call('DEL', KEYS[i + 1]) "
+            + "end "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, ProductDetailResponseDto> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localHit;
+    private final Counter redisHit;
+    private final Counter miss;
+
+    public ProductDetailCache(
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${product.detail-cache.local-ttl-seconds:5}") long localTtlSeconds,
+        @Value("${product.detail-cache.local-max-size:10000}") long localMaxSize,
+        @Value("${product.detail-cache.redis-ttl-seconds:600}") long redisTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .maximumSize(localMaxSize)
+            .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localHit = meterRegistry.counter("product.detail.cache", "result", "l1_hit");
+        this.redisHit = meterRegistry.counter("product.detail.cache", "result", "l2_hit");
+        this.miss = meterRegistry.counter("product.detail.cache", "result", "miss");
+    }
+
+    public ProductDetailResponseDto get(Long productId, Supplier<ProductDetailResponseDto> loader) {
+
+        ProductDetailResponseDto responseDto = localCache.getIfPresent(productId);
+
+        if (responseDto != null) {
+            localHit.increment();
+            return responseDto;
+        }
+
+        responseDto = readRedis(productId);
+
+        if (responseDto != null) {
+            redisHit.increment();
+            localCache.put(productId, responseDto);
+            return responseDto;
+        }
+
+        miss.increment();
+
+        // 조회하는 동안 커밋된 변경이 삭제한 캐시를 이전 값으로 다시 채우지 않도록 버전을 먼저 읽어 둠
+        String version = readVersion(productId);
+
+        responseDto = loader.get();
+
+        if (version != null && fill(productId, version, responseDto)) {
+            localCache.put(productId, responseDto);
+        }
+
+        return responseDto;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 삭제 (커밋 전 재조회로 이전 값이 다시 캐싱되는 것 방지)
+    public void evict(Long productId) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(productId);
+                }
+            });
+            return;
+        }
+
+        evictNow(productId);
+    }
+
+    // 판매자 / 구매자 정보가 바뀌면 관련 상품 상세를 한 번에 삭제
+    public void evict(Collection<Long> productIds) {
+
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(productIds);
+                }
+            });
+            return;
+        }
+
+        evictNow(productIds);
+    }
+
+    private void evictNow(Collection<Long> productIds) {
+
+        localCache.invalidateAll(productIds);
+
+        List<String> keys = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            keys.add(VERSION_PREFIX + productId);
+            keys.add(KEY_PREFIX + productId);
+        }
+
+        try {
+            // 버전은 상세 캐시보다 오래 남겨서 진행 중인 조회가 끝날 때까지 비교할 수 있도록 함
+            redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(redisTtl.multipliedBy(2).toSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("상품 상세 캐시 삭제 실패 - productIds: {}, {}", productIds, e.getMessage());
+        }
+    }
+
+    private void evictNow(Long productId) {
+        evictNow(List.of(productId));
+    }
+
+    private String readVersion(Long productId) {
+
+        try {
+            Object version = redisTemplate.opsForValue().get(VERSION_PREFIX + productId);
+            return version == null ? "0" : version.toString();
+        } catch (DataAccessException e) {
+            log.warn("상품 상세 캐시 버전 조회 실패 - productId: {}, {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private ProductDetailResponseDto readRedis(Long productId) {
+
+        try {
+
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + productId);
+
+            if (value == null) {
+                return null;
+            }
+
+            return objectMapper.readValue(value.toString(), ProductDetailResponseDto.class);
+
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("상품 상세 캐시 조회 실패 - productId: {}, {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean fill(Long productId, String version, ProductDetailResponseDto responseDto) {
+
+        try {
+
+            Long filled = redisTemplate.execute(FILL_SCRIPT, List.of(VERSION_PREFIX + productId, KEY_PREFIX + productId),
+                version, objectMapper.writeValueAsString(responseDto), String.valueOf(redisTtl.toSeconds()));
+
+            return filled != null && filled == 1;
+
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("상품 상세 캐시 저장 실패 - productId: {}, {}", productId, e.getMessage());
+            return false;
+        }
+    }
+
+}
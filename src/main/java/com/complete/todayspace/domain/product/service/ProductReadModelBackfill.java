@@ -0,0 +1,32 @@
+package com.complete.todayspace.domain.product.service;
+
+import com.complete.todayspace.domain.payment.entity.State;
+import com.complete.todayspace.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 상품의 thumbnailPath, soldOut 채우기 (1회성, product.backfill.enabled=true 로 실행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.backfill.enabled", havingValue = "true")
+public class ProductReadModelBackfill implements ApplicationRunner {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+
+        int thumbnails = productRepository.backfillThumbnailPath();
+        int soldOut = productRepository.backfillSoldOut(State.COMPLATE);
+
+        log.info("product backfill - thumbnailPath: {}, soldOut: {}", thumbnails, soldOut);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.complete.todayspace.domain.product.service;
 
+import com.complete.todayspace.domain.common.LeaderboardProvider;
 import com.complete.todayspace.domain.common.S3Provider;
 import com.complete.todayspace.domain.payment.entity.Payment;
 import com.complete.todayspace.domain.payment.entity.State;
@@ -10,19 +11,28 @@ import com.complete.todayspace.domain.product.entity.ImageProduct;
 import com.complete.todayspace.domain.product.entity.Product;
 import com.complete.todayspace.domain.product.repository.ImageProductRepository;
 import com.complete.todayspace.domain.product.repository.ProductRepository;
+import com.complete.todayspace.domain.product.search.ProductSearchIndex;
 import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.domain.wish.repository.WishRepository;
+import com.complete.todayspace.global.aop.Tracked;
+import com.complete.todayspace.global.dto.CursorResponseDto;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,18 +43,28 @@ public class ProductService {
     private final S3Provider s3Provider;
     private final WishRepository wishRepository;
     private final PaymentService paymentService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductDetailCache productDetailCache;
+    private final LeaderboardProvider leaderboardProvider;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public void createProduct(User user, CreateProductRequestDto requestDto) {
 
         Product saveProduct = new Product(requestDto, user);
 
+        if (requestDto.getImages() != null && !requestDto.getImages().isEmpty()) {
+            saveProduct.updateThumbnailPath(requestDto.getImages().get(0));
+        }
+
         productRepository.save(saveProduct);
 
         for (String fileUrl : requestDto.getImages()) {
             ImageProduct imageProduct = new ImageProduct(fileUrl, saveProduct);
             imageProductRepository.save(imageProduct);
         }
+
+        productSearchIndex.index(saveProduct);
     }
 
     @Transactional
@@ -57,6 +77,8 @@ public class ProductService {
         }
 
         product.updateProduct(requestDto);
+        productSearchIndex.index(product);
+        productDetailCache.evict(productId);
     }
 
     @Transactional
@@ -70,6 +92,7 @@ public class ProductService {
 
         product.updateUpdatedAt();
         productRepository.save(product);
+        productDetailCache.evict(productId);
     }
 
     @Transactional
@@ -88,11 +111,18 @@ public class ProductService {
         }
 
         productRepository.delete(product);
+        productSearchIndex.remove(productId);
+        productDetailCache.evict(productId);
 
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 hit 는 트랜잭션 없이 반환하고, DB 조회가 필요한 경우에만 트랜잭션을 시작
     public ProductDetailResponseDto getProduct(Long productId) {
+        return productDetailCache.get(productId,
+            () -> transactionTemplate.execute(status -> loadProductDetail(productId)));
+    }
+
+    private ProductDetailResponseDto loadProductDetail(Long productId) {
 
         Product product = findByProduct(productId);
 
@@ -119,6 +149,7 @@ public class ProductService {
             product.getState(), product.getUpdatedAt(), imageUrlList, paymentState, paymentUser);
     }
 
+    @Tracked
     public Page<ProductResponseDto> getResponseDto(Pageable pageable,
         PageParamDto pageParamDto) {
 
@@ -139,7 +170,7 @@ public class ProductService {
     @Transactional(readOnly = true)
     public Page<ProductResponseDto> getProductSearch(Pageable pageable, String search) {
 
-        Page<ProductResponseDto> page = productRepository.findProductsByTitleLike(pageable, ("%" + search + "%"));
+        Page<ProductResponseDto> page = productSearchIndex.search(search, null, pageable);
 
         if (page.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
@@ -185,11 +216,9 @@ public class ProductService {
         }
 
         if (region.equals("ALL")) {
-            page = productRepository.findByTitleContainingIgnoreCase(pageable, search);
+            page = productSearchIndex.search(search, null, pageable);
         } else {
-            page = productRepository.findByTitleContainingIgnoreCaseAndAddress(pageable,
-                search,
-                Address.valueOf(region));
+            page = productSearchIndex.search(search, Address.valueOf(region), pageable);
         }
 
         if (page.isEmpty()) {
@@ -216,6 +245,32 @@ public class ProductService {
     }
 
     @Transactional(readOnly = true)
+    public CursorResponseDto<ProductResponseDto> getProductCursor(Pageable pageable, PageParamDto pageParamDto) {
+
+        Address address = null;
+        String region = pageParamDto.getRegion();
+
+        if (region != null) {
+            if (!isAddressValid(region)) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+
+            if (!region.equals("ALL")) {
+                address = Address.valueOf(region);
+            }
+        }
+
+        Sort.Order order = pageable.getSort().stream()
+            .filter(o -> o.getProperty().equals("price") || o.getProperty().equals("updatedAt"))
+            .findFirst()
+            .orElse(Sort.Order.desc("updatedAt"));
+
+        return productRepository.findProductsByCursor(order, pageable.getPageSize(),
+            pageParamDto.getSearch(), address, pageParamDto.getCursor());
+    }
+
+    @Transactional(readOnly = true)
+    @Tracked
     public Page<ProductResponseDto> getMyProductList(Long id, int page) {
 
         int size = 6;
@@ -247,29 +302,34 @@ public class ProductService {
 
         return page.map((product) -> {
 
-            List<ImageProduct> images = imageProductRepository.findByProductIdOrderByCreatedAtAsc(
-                product.getId());
-
-            ImageProduct firstImage = images.isEmpty() ? null : images.get(0);
-
-            if (firstImage == null) {
+            if (product.getThumbnailPath() == null) {
                 throw new CustomException(ErrorCode.NO_REPRESENTATIVE_IMAGE_FOUND);
             }
 
-            Payment payment = paymentService.findByProductId(product.getId());
-            boolean paymentState = payment != null && payment.getState() == State.COMPLATE;
-
             return new ProductResponseDto(product.getId(), product.getPrice(), product.getTitle(),
-                s3Provider.getS3Url(firstImage.getFilePath()), paymentState);
+                s3Provider.getS3Url(product.getThumbnailPath()), product.isSoldOut());
         });
     }
 
+    @Transactional(readOnly = true)
     public Page<ProductResponseDto> getTopWishedProducts() {
         int size = 4;
 
-        Page<Product> page = wishRepository.findTopWishedProducts(PageRequest.of(1, size));
+        List<Long> productIds = leaderboardProvider.top(LeaderboardProvider.TOP_WISHED_PRODUCTS, size);
 
-        return getProductImageResponseDtoPage(page);
+        if (productIds.isEmpty()) {
+            Page<Product> page = wishRepository.findTopWishedProducts(PageRequest.of(0, size));
+            return getProductImageResponseDtoPage(page);
+        }
+
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> products = productIds.stream()
+            .map(productMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return getProductImageResponseDtoPage(new PageImpl<>(products, PageRequest.of(0, size), products.size()));
     }
 }
-
@@ -4,6 +4,7 @@ import com.complete.todayspace.domain.review.dto.ReviewRequestDto;
 import com.complete.todayspace.domain.review.dto.ReviewResponseDto;
 import com.complete.todayspace.domain.review.service.ReviewService;
 import com.complete.todayspace.global.dto.DataResponseDto;
+import com.complete.todayspace.global.dto.PageResponseDto;
 import com.complete.todayspace.global.dto.StatusResponseDto;
 import com.complete.todayspace.global.entity.SuccessCode;
 import com.complete.todayspace.global.security.UserDetailsImpl;
@@ -37,7 +38,7 @@ public class ReviewController {
     }
 
     @GetMapping("/users/{username}/reviews")
-    public ResponseEntity<DataResponseDto<Page<ReviewResponseDto>>> getReviewByUsername(
+    public ResponseEntity<DataResponseDto<PageResponseDto<ReviewResponseDto>>> getReviewByUsername(
             @PathVariable String username,
             @RequestParam Map<String, String> params
     ) {
@@ -46,13 +47,13 @@ public class ReviewController {
 
         Page<ReviewResponseDto> responseDto = reviewService.getReviewByUsername(username, page - 1);
 
-        DataResponseDto<Page<ReviewResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.PROFILE_REVIEW_GET, responseDto);
+        DataResponseDto<PageResponseDto<ReviewResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.PROFILE_REVIEW_GET, new PageResponseDto<>(responseDto));
 
         return new ResponseEntity<>(dataResponseDto, HttpStatus.OK);
     }
 
     @GetMapping("/reviews/my")
-    public ResponseEntity<DataResponseDto<Page<ReviewResponseDto>>> getMyReview(
+    public ResponseEntity<DataResponseDto<PageResponseDto<ReviewResponseDto>>> getMyReview(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam Map<String, String> params
     ) {
@@ -61,7 +62,7 @@ public class ReviewController {
 
         Page<ReviewResponseDto> responseDto = reviewService.getMyReview(userDetails.getUser().getId(), page - 1);
 
-        DataResponseDto<Page<ReviewResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.PROFILE_REVIEW_GET, responseDto);
+        DataResponseDto<PageResponseDto<ReviewResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.PROFILE_REVIEW_GET, new PageResponseDto<>(responseDto));
 
         return new ResponseEntity<>(dataResponseDto, HttpStatus.OK);
     }
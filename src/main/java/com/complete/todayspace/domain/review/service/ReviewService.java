@@ -7,6 +7,7 @@ import com.complete.todayspace.domain.review.dto.ReviewResponseDto;
 import com.complete.todayspace.domain.review.entity.Review;
 import com.complete.todayspace.domain.review.repository.ReviewRepository;
 import com.complete.todayspace.domain.user.entity.User;
+import com.complete.todayspace.global.aop.Tracked;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
+    @Tracked
     public Page<ReviewResponseDto> getReviewByUsername(String username, int page) {
 
         int size = 8;
@@ -45,6 +47,7 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
+    @Tracked
     public Page<ReviewResponseDto> getMyReview(Long id, int page) {
 
         int size = 8;
@@ -52,6 +52,12 @@ public class User extends AllTimestamp {
         this.oAuthId = oAuthId;
     }
 
+    public User(Long id, String username, UserRole role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
     public void withdrawal() {
         this.state = UserState.LEAVE;
     }
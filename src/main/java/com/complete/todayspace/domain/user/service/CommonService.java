@@ -93,7 +93,7 @@ public class CommonService {
         jwtProvider.addAccessTokenHeader(response, newAccessToken);
         jwtProvider.addRefreshTokenCookie(response, responseCookie.toString());
 
-        Long expiration = jwtProvider.getExpirationLong(newRefreshToken);
+        Long expiration = jwtProvider.getExpirationLong(expirationDate);
 
         saveRefreshToken(userId, newRefreshToken, expiration);
 
@@ -1,6 +1,9 @@
 package com.complete.todayspace.domain.user.service;
 
 import com.complete.todayspace.domain.common.S3Provider;
+import com.complete.todayspace.domain.payment.repository.PaymentRepository;
+import com.complete.todayspace.domain.product.repository.ProductRepository;
+import com.complete.todayspace.domain.product.service.ProductDetailCache;
 import com.complete.todayspace.domain.user.dto.ModifyProfileRequestDto;
 import com.complete.todayspace.domain.user.dto.ModifyUsernameRequestDto;
 import com.complete.todayspace.domain.user.dto.ProfileResponseDto;
@@ -8,6 +11,7 @@ import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.domain.user.repository.UserRepository;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
+import com.complete.todayspace.global.security.PrincipalCache;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -25,6 +29,10 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Provider s3Provider;
+    private final PrincipalCache principalCache;
+    private final ProductRepository productRepository;
+    private final PaymentRepository paymentRepository;
+    private final ProductDetailCache productDetailCache;
 
     @Value("${cloud.aws.s3.baseUrl}")
     private String s3BaseUrl;
@@ -59,6 +67,11 @@ public class UserService {
         User user = findById(id);
 
         user.modifyUsername(requestDto.getUsername());
+        principalCache.evict(id);
+
+        // 상품 상세 캐시에 판매자 / 구매자 이름이 들어 있으므로 함께 삭제
+        productDetailCache.evict(productRepository.findIdsByUserId(id));
+        productDetailCache.evict(paymentRepository.findProductIdsByUserId(id));
 
         String refreshToken = commonService.getRefreshTokenFromHeaderAndCheck(request);
 
@@ -79,6 +92,7 @@ public class UserService {
     public void modifyProfile(Long id, ModifyProfileRequestDto requestDto, String profileImageUrl) {
 
         User user = findById(id);
+        principalCache.evict(id);
 
         if (requestDto != null) {
 
@@ -96,6 +110,7 @@ public class UserService {
             }
 
             user.modifyProfileImage(profileImageUrl);
+            productDetailCache.evict(productRepository.findIdsByUserId(id));
         }
     }
 
@@ -135,6 +150,7 @@ public class UserService {
         User user = findById(id);
 
         user.withdrawal();
+        principalCache.evict(id);
 
     }
 
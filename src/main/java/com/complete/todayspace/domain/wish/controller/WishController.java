@@ -3,6 +3,7 @@ package com.complete.todayspace.domain.wish.controller;
 import com.complete.todayspace.domain.product.dto.ProductResponseDto;
 import com.complete.todayspace.domain.wish.service.WishService;
 import com.complete.todayspace.global.dto.DataResponseDto;
+import com.complete.todayspace.global.dto.PageResponseDto;
 import com.complete.todayspace.global.dto.StatusResponseDto;
 import com.complete.todayspace.global.entity.SuccessCode;
 import com.complete.todayspace.global.security.UserDetailsImpl;
@@ -48,7 +49,7 @@ public class WishController {
     }
 
     @GetMapping("/wishes/my")
-    public ResponseEntity<DataResponseDto<Page<ProductResponseDto>>> getMyWishList(
+    public ResponseEntity<DataResponseDto<PageResponseDto<ProductResponseDto>>> getMyWishList(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam Map<String, String> params
     ) {
@@ -57,7 +58,7 @@ public class WishController {
 
         Page<ProductResponseDto> responseDto = wishService.getMyWishList(userDetails.getUser().getId(), page - 1);
 
-        DataResponseDto<Page<ProductResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.PROFILE_WISHS_GET, responseDto);
+        DataResponseDto<PageResponseDto<ProductResponseDto>> dataResponseDto = new DataResponseDto<>(SuccessCode.PROFILE_WISHS_GET, new PageResponseDto<>(responseDto));
         return new ResponseEntity<>(dataResponseDto, HttpStatus.OK);
     }
 
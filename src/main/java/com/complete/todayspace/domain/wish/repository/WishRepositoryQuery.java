@@ -5,10 +5,16 @@ import com.complete.todayspace.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
 public interface WishRepositoryQuery {
 
     Page<Product> findTopWishedProducts(Pageable pageable);
 
     Page<ProductResponseDto> findMyWishList(Long userId, Pageable pageable);
 
+    Map<LocalDate, Map<Long, Long>> countDailyWishesSince(LocalDateTime since);
+
 }
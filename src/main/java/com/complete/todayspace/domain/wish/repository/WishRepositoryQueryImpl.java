@@ -1,19 +1,17 @@
 package com.complete.todayspace.domain.wish.repository;
 
-import com.complete.todayspace.domain.payment.entity.QPayment;
-import com.complete.todayspace.domain.payment.entity.State;
 import com.complete.todayspace.domain.product.dto.ProductResponseDto;
 import com.complete.todayspace.domain.product.dto.QProductResponseDto;
 import com.complete.todayspace.domain.product.entity.Product;
-import com.complete.todayspace.domain.product.entity.QImageProduct;
 import com.complete.todayspace.domain.product.entity.QProduct;
 import com.complete.todayspace.domain.wish.entity.QWish;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +19,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.complete.todayspace.domain.product.entity.QProduct.product;
@@ -39,27 +40,16 @@ public class WishRepositoryQueryImpl implements WishRepositoryQuery {
 
         QWish wish = QWish.wish;
         QProduct product = QProduct.product;
-        QImageProduct imageProduct = QImageProduct.imageProduct;
-        QPayment payment = QPayment.payment;
 
         List<ProductResponseDto> productList = jpaQueryFactory
                 .select(new QProductResponseDto(
                         product.id,
                         product.price,
                         product.title,
-                        JPAExpressions
-                                .select(imageProduct.filePath)
-                                .from(imageProduct)
-                                .where(imageProduct.id.eq(
-                                        JPAExpressions
-                                                .select(imageProduct.id.min())
-                                                .from(imageProduct)
-                                                .where(imageProduct.product.id.eq(product.id))
-                                )),
-                        payment.state.when(State.COMPLATE).then(true).otherwise(false)
+                        product.thumbnailPath,
+                        product.soldOut
                 )).from(wish)
                 .join(wish.product, product)
-                .leftJoin(payment).on(payment.product.id.eq(product.id))
                 .where(wish.user.id.eq(userId))
                 .orderBy(wish.id.desc())
                 .offset(pageable.getOffset())
@@ -108,6 +98,28 @@ public class WishRepositoryQueryImpl implements WishRepositoryQuery {
         return PageableExecutionUtils.getPage(products, pageable, () -> 4);
     }
 
+    @Override
+    public Map<LocalDate, Map<Long, Long>> countDailyWishesSince(LocalDateTime since) {
+
+        DateExpression<LocalDate> wishedDate = Expressions.dateTemplate(LocalDate.class, "cast({0} as date)", wish.createdAt);
+
+        List<Tuple> tuples = jpaQueryFactory
+            .select(wishedDate, wish.product.id, wish.count())
+            .from(wish)
+            .where(wishCreatedAfter(since))
+            .groupBy(wishedDate, wish.product.id)
+            .fetch();
+
+        Map<LocalDate, Map<Long, Long>> dailyCounts = new HashMap<>();
+
+        for (Tuple tuple : tuples) {
+            dailyCounts.computeIfAbsent(tuple.get(wishedDate), date -> new HashMap<>())
+                .put(tuple.get(wish.product.id), tuple.get(wish.count()));
+        }
+
+        return dailyCounts;
+    }
+
     private <T> JPAQuery<T> query(Expression<T> expr, LocalDateTime oneWeekAgo) {
         return jpaQueryFactory.select(expr)
             .from(wish)
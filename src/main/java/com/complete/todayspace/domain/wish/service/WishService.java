@@ -1,5 +1,6 @@
 package com.complete.todayspace.domain.wish.service;
 
+import com.complete.todayspace.domain.common.LeaderboardProvider;
 import com.complete.todayspace.domain.payment.entity.Payment;
 import com.complete.todayspace.domain.payment.entity.State;
 import com.complete.todayspace.domain.payment.service.PaymentService;
@@ -9,9 +10,12 @@ import com.complete.todayspace.domain.product.service.ProductService;
 import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.domain.wish.entity.Wish;
 import com.complete.todayspace.domain.wish.repository.WishRepository;
+import com.complete.todayspace.global.aop.Tracked;
 import com.complete.todayspace.global.exception.CustomException;
 import com.complete.todayspace.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +23,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 public class WishService {
@@ -26,6 +32,7 @@ public class WishService {
     private final WishRepository wishRepository;
     private final ProductService productService;
     private final PaymentService paymentService;
+    private final LeaderboardProvider leaderboardProvider;
 
     public void createWish(User user, Long productsId) {
 
@@ -40,6 +47,8 @@ public class WishService {
 
         Wish saveWish = new Wish(user, product);
         wishRepository.save(saveWish);
+
+        leaderboardProvider.increment(LeaderboardProvider.TOP_WISHED_PRODUCTS, productsId, user.getId());
     }
 
     public void deleteWish(User user, Long productsId) {
@@ -50,6 +59,8 @@ public class WishService {
         checkIfUserCanDeleteWish(user, wish);
 
         wishRepository.delete(wish);
+
+        leaderboardProvider.decrement(LeaderboardProvider.TOP_WISHED_PRODUCTS, productsId, user.getId());
     }
 
     private void checkIfUserCanDeleteWish(User user, Wish wish) {
@@ -66,7 +77,14 @@ public class WishService {
         );
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedLeaderboard() {
+        leaderboardProvider.seedIfAbsent(LeaderboardProvider.TOP_WISHED_PRODUCTS,
+            () -> wishRepository.countDailyWishesSince(LocalDate.now().minusDays(6).atStartOfDay()));
+    }
+
     @Transactional(readOnly = true)
+    @Tracked
     public Page<ProductResponseDto> getMyWishList(Long id, int page) {
 
         int size = 6;
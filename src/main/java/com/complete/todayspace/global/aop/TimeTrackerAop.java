@@ -1,43 +1,89 @@
 package com.complete.todayspace.global.aop;
 
 import com.complete.todayspace.global.tracking.service.ExecutionTimeService;
+import com.complete.todayspace.global.tracking.service.LatencyRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class TimeTrackerAop {
 
+    private static final String PACKAGE = "com.complete.todayspace.domain.";
+
     private final ExecutionTimeService executionTimeService;
+    private final LatencyRecorder latencyRecorder;
+
+    // 메서드별 이름 / 지연 분포 핸들은 처음 호출될 때 한 번만 만듦
+    private final Map<Method, TrackedMethod> trackedMethods = new ConcurrentHashMap<>();
 
-    @Around("execution(* com.complete.todayspace.domain.chat.service.ChatRoomService.getChatRoom(..)) || " +
-            "execution(* com.complete.todayspace.domain.product.service.ProductService.getResponseDto(..)) || " +
-            "execution(* com.complete.todayspace.domain.product.service.ProductService.getMyProductList(..)) ||" +
-            "execution(* com.complete.todayspace.domain.post.service.PostService.getMyPostList(..)) ||" +
-            "execution(* com.complete.todayspace.domain.review.service.ReviewService.getMyReview(..)) ||" +
-            "execution(* com.complete.todayspace.domain.review.service.ReviewService.getReviewByUsername(..)) ||" +
-            "execution(* com.complete.todayspace.domain.wish.service.WishService.getMyWishList(..))")
-    public Object logAndSaveExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+    @Around("@annotation(tracked)")
+    public Object logAndSaveExecutionTime(ProceedingJoinPoint joinPoint, Tracked tracked) throws Throwable {
 
-        Long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Object proceed = joinPoint.proceed();
 
-        Long endTime = System.currentTimeMillis();
-        Long executionTime = endTime - startTime;
+        long elapsedNanos = System.nanoTime() - startTime;
 
-        String joinPointSignature = joinPoint.getSignature().toString();
-        executionTimeService.saveExecutionTime(joinPointSignature, executionTime);
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        TrackedMethod trackedMethod = trackedMethods.computeIfAbsent(method, key -> createTrackedMethod(joinPoint));
+
+        trackedMethod.latency.record(elapsedNanos);
 
-        log.info("Method execution location: " + joinPointSignature + ", Execution time: " + executionTime + "ms");
+        Long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        boolean slow = tracked.slowThresholdMs() > 0 && executionTime >= tracked.slowThresholdMs();
+
+        if (slow) {
+            log.warn("Slow method execution: " + trackedMethod.methodName + ", Execution time: " + executionTime + "ms");
+        } else if (!isSampled(tracked.sampleRate())) {
+            return proceed;
+        } else {
+            log.info("Method execution location: " + trackedMethod.methodName + ", Execution time: " + executionTime + "ms");
+        }
+
+        if (tracked.persist()) {
+            executionTimeService.saveExecutionTime(trackedMethod.methodName, executionTime);
+        }
 
         return proceed;
     }
 
+    private boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private TrackedMethod createTrackedMethod(ProceedingJoinPoint joinPoint) {
+
+        String joinPointSignature = joinPoint.getSignature().toString();
+        String methodName = joinPointSignature.substring(joinPointSignature.indexOf(" ") + 1)
+                .replaceFirst(PACKAGE, "");
+
+        return new TrackedMethod(methodName, latencyRecorder.register(joinPointSignature));
+    }
+
+    private static class TrackedMethod {
+
+        private final String methodName;
+        private final LatencyRecorder.SignatureLatency latency;
+
+        private TrackedMethod(String methodName, LatencyRecorder.SignatureLatency latency) {
+            this.methodName = methodName;
+            this.latency = latency;
+        }
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.complete.todayspace.global.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// TimeTrackerAop 으로 실행 시간을 측정할 메서드
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Tracked {
+
+    // 로그 / DB 저장 비율 (0.0 ~ 1.0), 지연 분포는 항상 기록
+    double sampleRate() default 1.0;
+
+    // 이 시간(ms) 이상 걸린 호출은 샘플링과 관계없이 경고 로그 / 저장, 0 이하면 사용하지 않음
+    long slowThresholdMs() default 0;
+
+    // table_execution_time 저장 여부
+    boolean persist() default true;
+
+}
@@ -0,0 +1,98 @@
+package com.complete.todayspace.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 외부 API 호스트별 circuit breaker
+// 연속 실패(I/O 오류, 5xx)가 기준을 넘으면 일정 시간 호출을 막고, 이후 한 번의 시험 호출로 복구 여부를 판단
+@Slf4j
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, HostState> states = new ConcurrentHashMap<>();
+
+    public CircuitBreakerInterceptor(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+
+        String host = request.getURI().getHost();
+        HostState state = states.computeIfAbsent(host, key -> new HostState());
+
+        if (!state.tryAcquire()) {
+            throw new CircuitOpenException(host);
+        }
+
+        try {
+
+            ClientHttpResponse response = execution.execute(request, body);
+
+            if (response.getStatusCode().is5xxServerError()) {
+                state.onFailure(host);
+            } else {
+                state.onSuccess();
+            }
+
+            return response;
+
+        } catch (IOException e) {
+            state.onFailure(host);
+            throw e;
+        }
+    }
+
+    private class HostState {
+
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean trial = new AtomicBoolean();
+        // 0 이면 닫힘
+        private volatile long openedAt;
+
+        private boolean tryAcquire() {
+
+            if (openedAt == 0) {
+                return true;
+            }
+
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+
+            return trial.compareAndSet(false, true);
+        }
+
+        private void onSuccess() {
+            failures.set(0);
+            openedAt = 0;
+            trial.set(false);
+        }
+
+        private void onFailure(String host) {
+
+            if (trial.get() || failures.incrementAndGet() >= failureThreshold) {
+
+                if (openedAt == 0) {
+                    log.warn("외부 API 호출 차단 - host: {}, {}ms 동안 요청을 보내지 않습니다.", host, openMillis);
+                }
+
+                openedAt = System.currentTimeMillis();
+                trial.set(false);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.complete.todayspace.global.client;
+
+import java.io.IOException;
+
+// RestTemplate 에서는 ResourceAccessException 으로 감싸져 전달됨
+public class CircuitOpenException extends IOException {
+
+    public CircuitOpenException(String host) {
+        super("Circuit open for host: " + host);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.complete.todayspace.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 스프링이 만든 ObjectMapper 에 등록되어 HTTP 응답 / Redis 캐시 직렬화에 함께 사용됨
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+}
@@ -1,13 +1,17 @@
 package com.complete.todayspace.global.config;
 
+import com.complete.todayspace.domain.user.entity.UserRole;
 import com.complete.todayspace.domain.user.repository.UserRefreshTokenRepository;
 import com.complete.todayspace.domain.user.repository.UserRepository;
 import com.complete.todayspace.global.jwt.JwtProvider;
 import com.complete.todayspace.global.security.UserDetailsServiceImpl;
+import com.complete.todayspace.global.security.dto.SecurityErrorResponse;
+import com.complete.todayspace.global.security.dto.SecurityMessageResponse;
 import com.complete.todayspace.global.security.exception.CustomAccessDeniedHandler;
 import com.complete.todayspace.global.security.exception.CustomAuthenticationEntryPoint;
 import com.complete.todayspace.global.security.filter.JwtAuthenticationFilter;
 import com.complete.todayspace.global.security.filter.JwtAuthorizationFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +42,9 @@ public class SecurityConfig {
     private final UserDetailsServiceImpl userDetailsService;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final ObjectMapper objectMapper;
+    private final SecurityErrorResponse securityErrorResponse;
+    private final SecurityMessageResponse securityMessageResponse;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -49,7 +56,10 @@ public class SecurityConfig {
         JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
                 jwtProvider,
                 userRepository,
-                userRefreshTokenRepository
+                userRefreshTokenRepository,
+                objectMapper,
+                securityErrorResponse,
+                securityMessageResponse
         );
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         return filter;
@@ -57,7 +67,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtProvider, userDetailsService);
+        return new JwtAuthorizationFilter(jwtProvider, userDetailsService, securityErrorResponse);
     }
 
     @Bean
@@ -88,6 +98,7 @@ public class SecurityConfig {
                                 "/v1/users/*", "/v1/users/*/reviews",
                                 "/v1/payment/success/kakao").permitAll()
                         .requestMatchers("/v1/ws/**").permitAll()
+                        .requestMatchers("/v1/metrics/**").hasAuthority(UserRole.ADMIN.getUserRole())
                         .anyRequest().authenticated())
                 .exceptionHandling(exceptionHandling -> {
                     exceptionHandling.authenticationEntryPoint(customAuthenticationEntryPoint);
@@ -1,7 +1,11 @@
 package com.complete.todayspace.global.config;
 
+import com.complete.todayspace.domain.chat.interceptor.ChatChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -9,17 +13,41 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ChatChannelInterceptor chatChannelInterceptor;
+
     @Value("${front.url}")
     private String frontURL;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 서버 간 전달은 ChatMessageRelay 가 Redis pub/sub 으로 처리하고, simple broker 는 로컬 세션에만 전달
         registry.enableSimpleBroker("/v1/sub");
         registry.setApplicationDestinationPrefixes("/v1/pub");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatChannelInterceptor);
+
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("stomp-outbound-"));
+        }
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/v1/ws")
@@ -27,4 +55,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
+    // 메시지마다 가상 스레드 하나 (JDK 21 이상, virtual 프로필에서만 사용)
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+
+        return executor;
+    }
+
 }
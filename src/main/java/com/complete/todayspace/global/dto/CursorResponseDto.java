@@ -0,0 +1,20 @@
+package com.complete.todayspace.global.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponseDto<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorResponseDto(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+}
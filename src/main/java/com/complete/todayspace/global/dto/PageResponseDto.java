@@ -0,0 +1,30 @@
+package com.complete.todayspace.global.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+// PageImpl 전체(pageable, sort 등) 대신 목록 응답에 필요한 값만 직렬화
+@Getter
+public class PageResponseDto<T> {
+
+    private final List<T> content;
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean first;
+    private final boolean last;
+
+    public PageResponseDto(Page<T> page) {
+        this.content = page.getContent();
+        this.number = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+        this.first = page.isFirst();
+        this.last = page.isLast();
+    }
+
+}
@@ -43,7 +43,8 @@ public enum SuccessCode {
     GET_MESSAGE_FOR_CHAT_ROOM(200, "채팅방 메세지 조회 성공"),
     CHATS_GET(200, "채팅방 조회 성공"),
     CHATS_DELETE(204, "채팅방 삭제 성공"),
-    HASHTAGS_TOP10(200, "해시태그 Top 10 조회 성공");
+    HASHTAGS_TOP10(200, "해시태그 Top 10 조회 성공"),
+    LATENCY_GET(200, "응답 시간 통계 조회 성공");
 
     private final Integer statusCode;
     private final String message;
@@ -11,6 +11,8 @@ public enum ErrorCode {
     FAIL(500, "실패했습니다."),
     INVALID_REQUEST(400, "입력값을 확인해주세요."),
     INVALID_URL_ACCESS(400, "잘못된 URL 접근입니다."),
+    INVALID_CURSOR(400, "잘못된 커서입니다."),
+    INVALID_LATENCY_WINDOW(400, "조회 구간은 1분에서 60분 사이여야 합니다."),
     UNAUTHENTICATED(401, "로그인 후 이용해주세요."),
     UNAUTHORIZED_ADMIN(403, "권한이 없는 사용자입니다."),
 
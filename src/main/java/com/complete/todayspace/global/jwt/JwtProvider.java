@@ -1,5 +1,7 @@
 package com.complete.todayspace.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,7 +14,11 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
@@ -28,15 +34,31 @@ public class JwtProvider {
     @Value("${jwt.expiration.refresh_token}")
     private Long refreshTokenExpiration;
 
+    @Value("${jwt.claims-cache.ttl-seconds:60}")
+    private long claimsCacheTtlSeconds;
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
     private Key key;
+    private JwtParser jwtParser;
+    // 검증이 끝난 토큰의 claims (key: 토큰 SHA-256)
+    private Cache<String, Claims> verifiedClaims;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verifiedClaims = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(claimsCacheTtlSeconds))
+                .maximumSize(claimsCacheMaxSize)
+                .build();
     }
 
     public String generateToken(String username, String role, Long id, Date expirationDate) {
@@ -63,8 +85,10 @@ public class JwtProvider {
     }
 
     public String getAccessTokenFromHeader(HttpServletRequest request) {
+        return getAccessTokenFromAuthorization(request.getHeader(AUTHORIZATION_HEADER));
+    }
 
-        String authorization = request.getHeader(AUTHORIZATION_HEADER);
+    public String getAccessTokenFromAuthorization(String authorization) {
 
         if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
             return null;
@@ -121,11 +145,20 @@ public class JwtProvider {
     }
 
     public Claims getClaimsFromToken(String token) throws ExpiredJwtException, JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+
+        String tokenHash = hash(token);
+        Claims claims = verifiedClaims.getIfPresent(tokenHash);
+
+        if (claims != null && claims.getExpiration() != null && claims.getExpiration().after(new Date())) {
+            return claims;
+        }
+
+        verifiedClaims.invalidate(tokenHash);
+
+        claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(tokenHash, claims);
+
+        return claims;
     }
 
     public Date getExpirationDate(String token) {
@@ -135,7 +168,15 @@ public class JwtProvider {
     }
 
     public Long getExpirationLong(String token) {
-        return (getExpirationDate(token).getTime() - System.currentTimeMillis()) / 1000;
+        return getExpirationLong(getExpirationDate(token));
+    }
+
+    public Long getExpirationLong(Date expirationDate) {
+        return (expirationDate.getTime() - System.currentTimeMillis()) / 1000;
+    }
+
+    public Long getRefreshTokenExpirationLong() {
+        return refreshTokenExpiration / 1000;
     }
 
     private Date createExpirationDate(Long ms) {
@@ -144,6 +185,15 @@ public class JwtProvider {
         return new Date(date.getTime() + ms);
     }
 
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private String substringBearer(String authorization) {
         return authorization.substring(7);
     }
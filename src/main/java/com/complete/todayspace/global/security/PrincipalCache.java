@@ -0,0 +1,48 @@
+package com.complete.todayspace.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증된 사용자 정보를 user id 기준으로 캐싱 (요청마다 DB 조회 방지)
+@Component
+public class PrincipalCache {
+
+    private final Cache<Long, UserDetailsImpl> cache;
+
+    public PrincipalCache(
+        @Value("${jwt.principal.cache-ttl-seconds:300}") long ttlSeconds,
+        @Value("${jwt.principal.cache-max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    public UserDetailsImpl get(Long userId, Function<Long, UserDetailsImpl> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+            return;
+        }
+
+        cache.invalidate(userId);
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.complete.todayspace.global.security;
 
 import com.complete.todayspace.domain.user.entity.User;
+import com.complete.todayspace.domain.user.entity.UserRole;
 import com.complete.todayspace.domain.user.repository.UserRepository;
 import com.complete.todayspace.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +17,10 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Value("${jwt.principal.from-claims:false}")
+    private boolean principalFromClaims;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -23,4 +30,27 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return new UserDetailsImpl(user);
     }
 
+    public UserDetails loadUserByClaims(Claims claims) throws UsernameNotFoundException {
+
+        Long id = claims.get("id", Long.class);
+
+        if (id == null) {
+            return loadUserByUsername(claims.getSubject());
+        }
+
+        if (principalFromClaims) {
+            UserRole role = UserRole.valueOf(claims.get("auth", String.class));
+            return new UserDetailsImpl(new User(id, claims.getSubject(), role));
+        }
+
+        return principalCache.get(id, this::loadUserById);
+    }
+
+    private UserDetailsImpl loadUserById(Long id) {
+
+        User user = userRepository.findById(id).orElseThrow( () -> new UsernameNotFoundException(ErrorCode.CHECK_USERNAME_PASSWORD.getMessage()));
+
+        return new UserDetailsImpl(user);
+    }
+
 }
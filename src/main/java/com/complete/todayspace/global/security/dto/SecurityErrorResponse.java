@@ -1,20 +1,35 @@
 package com.complete.todayspace.global.security.dto;
 
 import com.complete.todayspace.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+@Component
 public class SecurityErrorResponse extends SecurityResponse<ErrorCode> {
 
+    // ErrorCode 응답 본문은 고정이므로 미리 직렬화해 둠
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public SecurityErrorResponse(ObjectMapper objectMapper) throws JsonProcessingException {
+
+        super(objectMapper);
+
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, objectToJson(setData(errorCode)));
+        }
+    }
+
     @Override
     public void sendResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
 
-        Map<String, Object> data = setData(errorCode);
-        String json = objectToJson(data);
-        initResponse(response, errorCode.getStatusCode(), json);
+        initResponse(response, errorCode.getStatusCode(), bodies.get(errorCode));
 
     }
 
@@ -1,18 +1,43 @@
 package com.complete.todayspace.global.security.dto;
 
 import com.complete.todayspace.global.dto.StatusResponseDto;
+import com.complete.todayspace.global.entity.SuccessCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
+@Component
 public class SecurityMessageResponse extends SecurityResponse<StatusResponseDto> {
 
+    // SuccessCode 응답 본문은 고정이므로 미리 직렬화해 둠
+    private final Map<SuccessCode, byte[]> bodies = new EnumMap<>(SuccessCode.class);
+
+    public SecurityMessageResponse(ObjectMapper objectMapper) throws JsonProcessingException {
+
+        super(objectMapper);
+
+        for (SuccessCode successCode : SuccessCode.values()) {
+            bodies.put(successCode, objectToJson(new StatusResponseDto(successCode)));
+        }
+    }
+
     @Override
     public void sendResponse(HttpServletResponse response, StatusResponseDto messageResponse) throws IOException {
 
-        String json = objectToJson(messageResponse);
+        byte[] json = objectToJson(messageResponse);
         initResponse(response, messageResponse.getStatusCode(), json);
 
     }
 
+    public void sendResponse(HttpServletResponse response, SuccessCode successCode) throws IOException {
+
+        initResponse(response, successCode.getStatusCode(), bodies.get(successCode));
+
+    }
+
 }
@@ -8,19 +8,24 @@ import java.io.IOException;
 
 public abstract class SecurityResponse<T> {
 
-    public abstract void sendResponse(HttpServletResponse response, T t) throws IOException;
+    protected final ObjectMapper objectMapper;
+
+    protected SecurityResponse(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
 
-    protected String objectToJson(Object object) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
+    public abstract void sendResponse(HttpServletResponse response, T t) throws IOException;
 
-        return objectMapper.writeValueAsString(object);
+    protected byte[] objectToJson(Object object) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(object);
     }
 
-    protected void initResponse(HttpServletResponse response, int statusCode, String json) throws IOException {
+    protected void initResponse(HttpServletResponse response, int statusCode, byte[] json) throws IOException {
 
         response.setContentType("application/json;charset=UTF-8");
         response.setStatus(statusCode);
-        response.getWriter().write(json);
+        response.setContentLength(json.length);
+        response.getOutputStream().write(json);
         response.flushBuffer();
 
     }
@@ -6,7 +6,6 @@ import com.complete.todayspace.domain.user.entity.User;
 import com.complete.todayspace.domain.user.entity.UserState;
 import com.complete.todayspace.domain.user.repository.UserRefreshTokenRepository;
 import com.complete.todayspace.domain.user.repository.UserRepository;
-import com.complete.todayspace.global.dto.StatusResponseDto;
 import com.complete.todayspace.global.entity.SuccessCode;
 import com.complete.todayspace.global.exception.ErrorCode;
 import com.complete.todayspace.global.jwt.JwtProvider;
@@ -31,16 +30,25 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final UserRefreshTokenRepository userRefreshTokenRepository;
+    private final ObjectMapper objectMapper;
+    private final SecurityErrorResponse securityErrorResponse;
+    private final SecurityMessageResponse securityMessageResponse;
 
     public JwtAuthenticationFilter(
             JwtProvider jwtProvider,
             UserRepository userRepository,
-            UserRefreshTokenRepository refreshTokenRepository
+            UserRefreshTokenRepository refreshTokenRepository,
+            ObjectMapper objectMapper,
+            SecurityErrorResponse securityErrorResponse,
+            SecurityMessageResponse securityMessageResponse
     ) {
 
         this.jwtProvider = jwtProvider;
         this.userRepository = userRepository;
         this.userRefreshTokenRepository = refreshTokenRepository;
+        this.objectMapper = objectMapper;
+        this.securityErrorResponse = securityErrorResponse;
+        this.securityMessageResponse = securityMessageResponse;
 
         setFilterProcessesUrl("/v1/auth/login");
 
@@ -54,8 +62,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         if (!request.getMethod().equals("POST")) {
 
-            SecurityErrorResponse securityErrorResponse = new SecurityErrorResponse();
-
             try {
                 securityErrorResponse.sendResponse(response, ErrorCode.INVALID_URL_ACCESS);
             } catch (IOException e) {
@@ -67,7 +73,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         try {
 
-            LoginRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), LoginRequestDto.class);
+            LoginRequestDto requestDto = objectMapper.readValue(request.getInputStream(), LoginRequestDto.class);
 
             return getAuthenticationManager().authenticate(new UsernamePasswordAuthenticationToken(
                     requestDto.getUsername(),
@@ -99,7 +105,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         if (user.getState().equals(UserState.LEAVE)) {
 
-            SecurityErrorResponse securityErrorResponse = new SecurityErrorResponse();
             securityErrorResponse.sendResponse(response, ErrorCode.CHECK_USERNAME_PASSWORD);
 
             return;
@@ -107,7 +112,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         String accessToken = jwtProvider.generateAccessToken(username, userRole, user.getId());
         String refreshToken = jwtProvider.generateRefreshToken(username, userRole, user.getId());
-        Long expiration = jwtProvider.getExpirationLong(refreshToken);
+        Long expiration = jwtProvider.getRefreshTokenExpirationLong();
 
         userRefreshTokenRepository.save(new UserRefreshToken(user.getId(), refreshToken, expiration));
 
@@ -115,10 +120,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         jwtProvider.addAccessTokenHeader(response, accessToken);
         jwtProvider.addRefreshTokenCookie(response, responseCookie.toString());
 
-        StatusResponseDto statusResponseDto = new StatusResponseDto(SuccessCode.LOGIN);
-
-        SecurityMessageResponse securityMessageResponse = new SecurityMessageResponse();
-        securityMessageResponse.sendResponse(response, statusResponseDto);
+        securityMessageResponse.sendResponse(response, SuccessCode.LOGIN);
 
     }
 
@@ -129,7 +131,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             AuthenticationException failed
     ) throws IOException {
 
-        SecurityErrorResponse securityErrorResponse = new SecurityErrorResponse();
         securityErrorResponse.sendResponse(response, ErrorCode.CHECK_USERNAME_PASSWORD);
 
     }
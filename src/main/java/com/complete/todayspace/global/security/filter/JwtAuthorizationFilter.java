@@ -27,6 +27,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final SecurityErrorResponse securityErrorResponse;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -47,9 +48,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     }
 
-    public void setAuthentication(String username) {
+    public void setAuthentication(Claims claims) {
 
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(claims);
 
         SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
         securityContext.setAuthentication(authentication);
@@ -57,9 +58,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     }
 
-    private Authentication createAuthentication(String username) {
+    private Authentication createAuthentication(Claims claims) {
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
@@ -67,16 +68,14 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private boolean tokenValidation(HttpServletResponse response, String token) throws IOException {
         try {
             Claims userInfo = jwtProvider.getClaimsFromToken(token);
-            setAuthentication(userInfo.getSubject());
+            setAuthentication(userInfo);
 
             return true;
         } catch (ExpiredJwtException e) {
-            SecurityErrorResponse securityErrorResponse = new SecurityErrorResponse();
             securityErrorResponse.sendResponse(response, ErrorCode.TOKEN_EXPIRED);
 
             return false;
         } catch (JwtException e) {
-            SecurityErrorResponse securityErrorResponse = new SecurityErrorResponse();
             securityErrorResponse.sendResponse(response, ErrorCode.INVALID_TOKEN);
 
             return false;
@@ -0,0 +1,33 @@
+package com.complete.todayspace.global.tracking.controller;
+
+import com.complete.todayspace.global.dto.DataResponseDto;
+import com.complete.todayspace.global.entity.SuccessCode;
+import com.complete.todayspace.global.tracking.dto.LatencyResponseDto;
+import com.complete.todayspace.global.tracking.service.LatencyRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/metrics")
+@RequiredArgsConstructor
+public class LatencyController {
+
+    private final LatencyRecorder latencyRecorder;
+
+    @GetMapping("/latency")
+    public ResponseEntity<DataResponseDto<List<LatencyResponseDto>>> getLatencies(
+        @RequestParam(defaultValue = "5") int window
+    ) {
+        List<LatencyResponseDto> latencies = latencyRecorder.getLatencies(window);
+        DataResponseDto<List<LatencyResponseDto>> responseDto = new DataResponseDto<>(SuccessCode.LATENCY_GET, latencies);
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.complete.todayspace.global.tracking.dto;
+
+import lombok.Getter;
+
+@Getter
+public class LatencyResponseDto {
+
+    private final String methodName;
+    private final int windowMinutes;
+    private final long count;
+    private final double p50;
+    private final double p95;
+    private final double p99;
+    private final double max;
+
+    public LatencyResponseDto(String methodName, int windowMinutes, long count, double p50, double p95, double p99,
+        double max) {
+        this.methodName = methodName;
+        this.windowMinutes = windowMinutes;
+        this.count = count;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+}
@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "table_execution_time")
+@Table(name = "table_execution_time", indexes = {
+    @Index(name = "idx_execution_time_recorded_at", columnList = "recorded_at")
+})
 @Getter
 @NoArgsConstructor
 public class ExecutionTime {
@@ -20,9 +24,13 @@ public class ExecutionTime {
     @Column
     private Long time;
 
-    public ExecutionTime(String methodName, Long time) {
+    @Column
+    private LocalDateTime recordedAt;
+
+    public ExecutionTime(String methodName, Long time, LocalDateTime recordedAt) {
         this.methodName = methodName;
         this.time = time;
+        this.recordedAt = recordedAt;
     }
 
 }
@@ -0,0 +1,46 @@
+package com.complete.todayspace.global.tracking.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// table_execution_time 의 원본 행을 시간 단위로 압축한 통계
+@Entity
+@Table(name = "table_execution_time_summary", indexes = {
+    @Index(name = "idx_execution_time_summary_method_name_bucket_start", columnList = "method_name, bucket_start")
+})
+@Getter
+@NoArgsConstructor
+public class ExecutionTimeSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String methodName;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long callCount;
+
+    @Column
+    private Double avgTime;
+
+    @Column
+    private Double p50Time;
+
+    @Column
+    private Double p95Time;
+
+    @Column
+    private Double p99Time;
+
+    @Column
+    private Long maxTime;
+
+}
@@ -1,28 +1,133 @@
 package com.complete.todayspace.global.tracking.service;
 
-import com.complete.todayspace.global.tracking.entity.ExecutionTime;
-import com.complete.todayspace.global.tracking.repository.ExecutionTimeRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExecutionTimeService {
 
-    private final ExecutionTimeRepository executionTimeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String INSERT_SQL =
+        "insert into table_execution_time (method_name, time, recorded_at) values (?, ?, ?)";
+    private static final String COMPACT_SQL =
+        "insert into table_execution_time_summary "
+            + "(method_name, bucket_start, call_count, avg_time, p50_time, p95_time, p99_time, max_time) "
+            + "select method_name, date_trunc('hour', recorded_at), count(*), avg(time), "
+            + "percentile_cont(0.5) within group (order by time), "
+            + "percentile_cont(0.95) within group (order by time), "
+            + "percentile_cont(0.99) within group (order by time), "
+            + "max(time) "
+            + "from table_execution_time where recorded_at < ? "
+            + "group by method_name, date_trunc('hour', recorded_at)";
+    private static final String DELETE_COMPACTED_SQL = "delete from table_execution_time where recorded_at < ?";
+    private static final String COMPACTION_LOCK_SQL = "select pg_try_advisory_xact_lock(?)";
+    private static final long COMPACTION_LOCK_KEY = 20240801L;
+
+    @Value("${tracking.buffer.capacity:10000}")
+    private int capacity;
+
+    @Value("${tracking.flush.batch-size:500}")
+    private int batchSize;
+
+    // 요청 스레드는 큐에 넣기만 하고 DB 쓰기는 flush 에서 처리
+    private final Queue<Object[]> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public void saveExecutionTime(String methodName, Long time) {
+
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+
+        buffer.offer(new Object[]{methodName, time, System.currentTimeMillis()});
+    }
+
+    @Scheduled(fixedDelayString = "${tracking.flush.interval-ms:1000}")
+    public void flush() {
+
+        while (size.get() > 0) {
+
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            Object[] entry;
+
+            while (batch.size() < batchSize && (entry = buffer.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(new Object[]{entry[0], entry[1], new Timestamp((Long) entry[2])});
+            }
 
-    private static final String PACKAGE = "com.complete.todayspace.domain.";
+            if (batch.isEmpty()) {
+                break;
+            }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveExecutionTime(String joinPointSignature, Long time) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            } catch (DataAccessException e) {
+                log.warn("실행 시간 저장 실패 ({}건 유실): {}", batch.size(), e.getMessage());
+            }
+        }
 
-        String methodName = joinPointSignature.substring(joinPointSignature.indexOf(" ") + 1)
-                .replaceFirst(PACKAGE, "");
-        ExecutionTime executionTime = new ExecutionTime(methodName, time);
-        executionTimeRepository.save(executionTime);
+        long droppedCount = dropped.getAndSet(0);
+
+        if (droppedCount > 0) {
+            log.warn("실행 시간 버퍼가 가득 차 {}건을 버렸습니다.", droppedCount);
+        }
+    }
+
+    // 지난 시간대의 원본 행을 시간 단위 요약으로 합치고 삭제
+    @Scheduled(cron = "${tracking.compaction.cron:0 5 * * * *}")
+    public void compact() {
+
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+
+        try {
+
+            transactionTemplate.executeWithoutResult(status -> {
+
+                // 여러 인스턴스가 동시에 압축하지 않도록 트랜잭션 단위 잠금
+                Boolean locked = jdbcTemplate.queryForObject(COMPACTION_LOCK_SQL, Boolean.class, COMPACTION_LOCK_KEY);
+
+                if (!Boolean.TRUE.equals(locked)) {
+                    return;
+                }
+
+                int summaries = jdbcTemplate.update(COMPACT_SQL, before);
+                int deleted = jdbcTemplate.update(DELETE_COMPACTED_SQL, before);
+
+                log.info("실행 시간 압축 - 요약: {}건, 삭제: {}건", summaries, deleted);
+            });
+
+        } catch (DataAccessException e) {
+            log.warn("실행 시간 압축 실패 - 다음 주기에 재시도합니다. {}", e.getMessage());
+        }
+    }
 
+    @PreDestroy
+    public void drain() {
+        flush();
     }
 
 }
@@ -0,0 +1,118 @@
+package com.complete.todayspace.global.tracking.service;
+
+import com.complete.todayspace.global.exception.CustomException;
+import com.complete.todayspace.global.exception.ErrorCode;
+import com.complete.todayspace.global.tracking.dto.LatencyResponseDto;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LatencyRecorder {
+
+    // 마이크로초 단위, 최대 60초까지 유효숫자 2자리로 기록 (구간 히스토그램 하나당 약 20KB)
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    public static final int MAX_WINDOW_MINUTES = 60;
+
+    private final Map<String, SignatureLatency> latencies = new ConcurrentHashMap<>();
+
+    public SignatureLatency register(String signature) {
+        return latencies.computeIfAbsent(signature, key -> new SignatureLatency());
+    }
+
+    // 1분 단위로 구간 히스토그램을 잘라서 최근 60분까지 보관
+    @Scheduled(fixedRate = 60000)
+    public void rotate() {
+        latencies.values().forEach(SignatureLatency::rotate);
+    }
+
+    public List<LatencyResponseDto> getLatencies(int windowMinutes) {
+
+        if (windowMinutes < 1 || windowMinutes > MAX_WINDOW_MINUTES) {
+            throw new CustomException(ErrorCode.INVALID_LATENCY_WINDOW);
+        }
+
+        List<LatencyResponseDto> responseDtoList = new ArrayList<>();
+
+        latencies.forEach((signature, latency) -> {
+
+            LatencyResponseDto responseDto = latency.summarize(signature, windowMinutes);
+
+            if (responseDto != null) {
+                responseDtoList.add(responseDto);
+            }
+        });
+
+        responseDtoList.sort(Comparator.comparingDouble(LatencyResponseDto::getP99).reversed());
+
+        return responseDtoList;
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    public static class SignatureLatency {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        // 최신 구간이 앞에 오도록 보관, 60분이 지난 구간은 다음 rotate 때 재사용
+        private final Deque<Histogram> intervals = new ArrayDeque<>();
+        // 조회할 때마다 새로 만들지 않도록 합산용 히스토그램을 재사용
+        private final Histogram accumulator = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private Histogram recycled;
+
+        public void record(long elapsedNanos) {
+
+            long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 0), HIGHEST_TRACKABLE_MICROS);
+
+            recorder.recordValue(micros);
+        }
+
+        private synchronized void rotate() {
+
+            intervals.addFirst(recorder.getIntervalHistogram(recycled));
+            recycled = null;
+
+            while (intervals.size() > MAX_WINDOW_MINUTES) {
+                recycled = intervals.pollLast();
+            }
+        }
+
+        private synchronized LatencyResponseDto summarize(String signature, int windowMinutes) {
+
+            accumulator.reset();
+            Iterator<Histogram> iterator = intervals.iterator();
+
+            for (int i = 0; i < windowMinutes && iterator.hasNext(); i++) {
+                accumulator.add(iterator.next());
+            }
+
+            if (accumulator.getTotalCount() == 0) {
+                return null;
+            }
+
+            return new LatencyResponseDto(
+                    signature,
+                    windowMinutes,
+                    accumulator.getTotalCount(),
+                    toMillis(accumulator.getValueAtPercentile(50)),
+                    toMillis(accumulator.getValueAtPercentile(95)),
+                    toMillis(accumulator.getValueAtPercentile(99)),
+                    toMillis(accumulator.getMaxValue())
+            );
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.complete.todayspace.global.valid;
+
+import com.complete.todayspace.global.exception.CustomException;
+import com.complete.todayspace.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+public class CursorValidation {
+
+    private static final String DELIMITER = "|";
+    private static final String DELIMITER_REGEX = "\\|";
+
+    public static String encodeCursor(Object... values) {
+
+        StringJoiner joiner = new StringJoiner(DELIMITER);
+
+        for (Object value : values) {
+            joiner.add(String.valueOf(value));
+        }
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decodeCursor(String cursor, int size) {
+
+        try {
+
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER_REGEX, -1);
+
+            if (values.length != size) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return values;
+
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+}
@@ -0,0 +1,2 @@
+-- 운영 중인 table_product 에 쓰기 잠금을 걸지 않도록 CONCURRENTLY 로 생성 (Flyway 가 트랜잭션 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_title_trgm ON table_product USING gin (title gin_trgm_ops);
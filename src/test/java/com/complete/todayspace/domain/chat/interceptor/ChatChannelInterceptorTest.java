@@ -0,0 +1,147 @@
+package com.complete.todayspace.domain.chat.interceptor;
+
+import com.complete.todayspace.domain.chat.service.ChatRoomMembership;
+import com.complete.todayspace.global.jwt.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatChannelInterceptorTest {
+
+    private static final Long USER_ID = 1L;
+
+    private ChatRoomMembership chatRoomMembership;
+    private ChatChannelInterceptor interceptor;
+    private MessageChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomMembership = mock(ChatRoomMembership.class);
+        interceptor = new ChatChannelInterceptor(mock(JwtProvider.class), chatRoomMembership);
+        channel = mock(MessageChannel.class);
+    }
+
+    @Test
+    void subscribeToJoinedRoom() {
+        when(chatRoomMembership.isMember("1seller", USER_ID)).thenReturn(true);
+
+        Message<?> message = subscribe("/v1/sub/chatroom/1seller");
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    void rejectRoomWithoutMembership() {
+        when(chatRoomMembership.isMember("1seller", USER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/v1/sub/chatroom/1seller"), channel))
+            .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/v1/sub/chatroom/*",
+        "/v1/sub/chatroom/**",
+        "/v1/sub/chatroom/1sell?r",
+        "/v1/sub/chatroom/{roomId}",
+        "/v1/sub/**",
+        "/v1/sub/*/1seller"
+    })
+    void rejectWildcardDestination(String destination) {
+        when(chatRoomMembership.isMember(anyString(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), channel))
+            .isInstanceOf(MessageDeliveryException.class);
+        verify(chatRoomMembership, never()).isMember(anyString(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/v1/sub",
+        "/v1/sub/other",
+        "/v1/sub/chatroom/",
+        "/v1/sub/chatroom/1seller/extra"
+    })
+    void rejectUnknownBrokerDestination(String destination) {
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), channel))
+            .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void sendToJoinedRoom() {
+        when(chatRoomMembership.isMember("1seller", USER_ID)).thenReturn(true);
+
+        Message<?> message = send("/v1/pub/chatroom/1seller", USER_ID);
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    void rejectSendWithoutMembership() {
+        when(chatRoomMembership.isMember("1seller", USER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> interceptor.preSend(send("/v1/pub/chatroom/1seller", USER_ID), channel))
+            .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void rejectUnauthenticatedSend() {
+        when(chatRoomMembership.isMember(anyString(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> interceptor.preSend(send("/v1/pub/chatroom/1seller", null), channel))
+            .isInstanceOf(MessageDeliveryException.class);
+        verify(chatRoomMembership, never()).isMember(anyString(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/v1/sub/chatroom/1seller",
+        "/v1/pub/other",
+        "/v1/pub/chatroom/",
+        "/v1/pub/chatroom/1seller/extra"
+    })
+    void rejectSendToOtherDestination(String destination) {
+        when(chatRoomMembership.isMember(anyString(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> interceptor.preSend(send(destination, USER_ID), channel))
+            .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    private Message<?> subscribe(String destination) {
+        return message(StompCommand.SUBSCRIBE, destination, USER_ID);
+    }
+
+    private Message<?> send(String destination, Long userId) {
+        return message(StompCommand.SEND, destination, userId);
+    }
+
+    private Message<?> message(StompCommand command, String destination, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        if (userId != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.complete.todayspace.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("unchecked")
+class ChatMessageRelayTest {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("chat:room:1seller");
+
+    private RedisMessageListenerContainer container;
+    private ChatMessageRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        container = mock(RedisMessageListenerContainer.class);
+        relay = new ChatMessageRelay(mock(RedisTemplate.class), container, mock(SimpMessagingTemplate.class),
+            new ObjectMapper());
+    }
+
+    @Test
+    void listensOnlyWhileRoomHasSubscribers() {
+        relay.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1")));
+        relay.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-1")));
+
+        verify(container, times(1)).addMessageListener(relay, TOPIC);
+
+        relay.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1")));
+
+        verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        relay.onDisconnect(new SessionDisconnectEvent(this, frame(StompCommand.DISCONNECT, "s2", null), "s2",
+            CloseStatus.NORMAL));
+
+        verify(container, times(1)).removeMessageListener(relay, TOPIC);
+    }
+
+    @Test
+    void resubscribeAfterLastSubscriberLeft() {
+        relay.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1")));
+        relay.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1")));
+        relay.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-2")));
+
+        verify(container, times(2)).addMessageListener(relay, TOPIC);
+        verify(container, times(1)).removeMessageListener(relay, TOPIC);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setDestination(ChatMessageRelay.DESTINATION_PREFIX + "1seller");
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+}
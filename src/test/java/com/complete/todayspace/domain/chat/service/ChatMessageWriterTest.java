@@ -0,0 +1,165 @@
+package com.complete.todayspace.domain.chat.service;
+
+import com.complete.todayspace.domain.chat.entity.ChatMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageWriterTest {
+
+    private static final String FALLBACK_KEY = "chat:message:fallback";
+
+    private final List<List<ChatMessage>> batches = new CopyOnWriteArrayList<>();
+    private final List<Object> fallback = new CopyOnWriteArrayList<>();
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        redisTemplate = mock(RedisTemplate.class);
+        ListOperations<String, Object> listOperations = mock(ListOperations.class);
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessage.class))).thenReturn(bulkOperations);
+        // 저장 후 batch 목록을 재사용하므로 호출 시점의 내용을 복사해 둠
+        doAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<List<ChatMessage>>getArgument(0)));
+            return bulkOperations;
+        }).when(bulkOperations).insert(anyList());
+
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        doAnswer(invocation -> {
+            fallback.addAll(invocation.<Collection<Object>>getArgument(1));
+            return (long) fallback.size();
+        }).when(listOperations).rightPushAll(eq(FALLBACK_KEY), anyCollection());
+    }
+
+    @Test
+    void groupsQueuedMessagesIntoBatches() throws InterruptedException {
+        ChatMessageWriter writer = writer(100, 3, 50, 1000);
+
+        for (int i = 0; i < 7; i++) {
+            writer.write(message(i));
+        }
+        writer.start();
+        writer.stop();
+
+        assertThat(batches).extracting(List::size).containsExactly(3, 3, 1);
+        verify(mongoTemplate, never()).insert(any(ChatMessage.class));
+    }
+
+    @Test
+    void flushesPartialBatchAfterInterval() throws InterruptedException {
+        ChatMessageWriter writer = writer(100, 200, 50, 1000);
+        writer.start();
+
+        writer.write(message(1));
+
+        verify(bulkOperations, timeout(1000)).execute();
+        assertThat(batches).extracting(List::size).containsExactly(1);
+
+        writer.stop();
+    }
+
+    @Test
+    void writesDirectlyWhenQueueIsFull() throws InterruptedException {
+        ChatMessageWriter writer = writer(2, 200, 50, 1000);
+        ChatMessage overflow = message(3);
+
+        writer.write(message(1));
+        writer.write(message(2));
+        writer.write(overflow);
+
+        verify(mongoTemplate).insert(overflow);
+
+        writer.start();
+        writer.stop();
+        assertThat(batches).extracting(List::size).containsExactly(2);
+    }
+
+    @Test
+    void keepsDirectWriteInFallbackWhenMongoFails() {
+        ChatMessageWriter writer = writer(1, 200, 50, 1000);
+        ChatMessage overflow = message(2);
+        doThrow(new DataAccessResourceFailureException("down")).when(mongoTemplate).insert(overflow);
+
+        writer.write(message(1));
+        writer.write(overflow);
+
+        assertThat(fallback).hasSize(1);
+        assertThat(fallback.get(0).toString()).contains(overflow.getId());
+    }
+
+    @Test
+    void keepsBatchInFallbackAfterRetries() throws InterruptedException {
+        when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("down"));
+        ChatMessageWriter writer = writer(100, 200, 50, 1000);
+
+        writer.write(message(1));
+        writer.write(message(2));
+        writer.start();
+        writer.stop();
+
+        assertThat(batches).hasSize(3);
+        assertThat(fallback).hasSize(2);
+    }
+
+    @Test
+    void drainsQueueToFallbackWhenShutdownTimesOut() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(bulkOperations.execute()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        ChatMessageWriter writer = writer(100, 1, 10, 100);
+        writer.start();
+
+        writer.write(message(1));
+        verify(bulkOperations, timeout(1000)).execute();
+        writer.write(message(2));
+        writer.write(message(3));
+
+        writer.stop();
+        release.countDown();
+
+        assertThat(fallback).hasSize(2);
+    }
+
+    private ChatMessageWriter writer(int capacity, int batchSize, long flushIntervalMs, long shutdownTimeoutMs) {
+        return new ChatMessageWriter(mongoTemplate, redisTemplate, new ObjectMapper().findAndRegisterModules(),
+            capacity, batchSize, flushIntervalMs, 10, shutdownTimeoutMs);
+    }
+
+    private ChatMessage message(int index) {
+        return new ChatMessage("1seller", "buyer", "message " + index);
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.complete.todayspace.domain.like.service;
+
+import com.complete.todayspace.domain.like.repository.LikeRepository;
+import com.complete.todayspace.global.config.RedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class LikeCounterTest {
+
+    private static final Long POST_ID = 1L;
+    private static final String POST_KEY = "like:post:1";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private LikeRepository likeRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private LikeCounter likeCounter;
+
+    // DB 반영 단계에서 실행할 동작 (반영 도중 새 좋아요 / 종료 상황을 만들 때 사용)
+    private Runnable duringFlush = () -> {
+    };
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        likeRepository = mock(LikeRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+
+        when(likeRepository.findUserIdsByPostId(POST_ID)).thenReturn(List.of(10L, 11L));
+
+        doAnswer(invocation -> {
+            duringFlush.run();
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        likeCounter = new LikeCounter(redisTemplate, likeRepository, jdbcTemplate, transactionTemplate, 60);
+    }
+
+    @Test
+    void toggleWarmsFromDatabaseOnce() {
+        assertThat(likeCounter.toggle(POST_ID, 12L)).isTrue();
+        assertThat(likeCounter.count(POST_ID)).isEqualTo(3);
+        assertThat(likeCounter.isLiked(POST_ID, 12L)).isTrue();
+
+        assertThat(likeCounter.toggle(POST_ID, 10L)).isFalse();
+        assertThat(likeCounter.count(POST_ID)).isEqualTo(2);
+        assertThat(likeCounter.isLiked(POST_ID, 10L)).isFalse();
+
+        verify(likeRepository, times(1)).findUserIdsByPostId(POST_ID);
+    }
+
+    @Test
+    void viewedPostExpiresButDirtyPostDoesNot() {
+        likeCounter.isLiked(POST_ID, 10L);
+        assertThat(redisTemplate.getExpire(POST_KEY)).isPositive();
+
+        // DB 미반영 변경분이 있는 동안에는 만료되면 변경분이 사라지므로 만료하지 않음
+        likeCounter.toggle(POST_ID, 12L);
+        assertThat(redisTemplate.getExpire(POST_KEY)).isEqualTo(-1);
+    }
+
+    @Test
+    void flushWritesPendingChangesAndRestoresExpiry() {
+        likeCounter.toggle(POST_ID, 12L);
+        likeCounter.toggle(POST_ID, 10L);
+
+        likeCounter.flush();
+
+        List<Object[]> inserts = captureBatch("INSERT");
+        List<Object[]> deletes = captureBatch("DELETE");
+
+        assertThat(inserts).hasSize(1);
+        assertThat(inserts.get(0)[0]).isEqualTo(POST_ID);
+        assertThat(inserts.get(0)[1]).isEqualTo(12L);
+        assertThat(deletes).hasSize(1);
+        assertThat(deletes.get(0)).containsExactly(POST_ID, 10L);
+
+        assertThat(redisTemplate.hasKey("like:pending")).isFalse();
+        assertThat(redisTemplate.hasKey("like:pending:flushing")).isFalse();
+        assertThat(redisTemplate.hasKey("like:dirty:flushing")).isFalse();
+        assertThat(redisTemplate.getExpire(POST_KEY)).isPositive();
+    }
+
+    @Test
+    void toggleDuringFlushKeepsPostUntilNextFlush() {
+        likeCounter.toggle(POST_ID, 12L);
+        duringFlush = () -> likeCounter.toggle(POST_ID, 13L);
+
+        likeCounter.flush();
+
+        assertThat(redisTemplate.getExpire(POST_KEY)).isEqualTo(-1);
+        assertThat(redisTemplate.opsForHash().hasKey("like:pending", "1:13")).isTrue();
+
+        duringFlush = () -> {
+        };
+        likeCounter.flush();
+
+        assertThat(redisTemplate.getExpire(POST_KEY)).isPositive();
+        assertThat(likeCounter.count(POST_ID)).isEqualTo(4);
+    }
+
+    @Test
+    void resumesFlushLeftBetweenRenameAndDelete() {
+        likeCounter.toggle(POST_ID, 12L);
+
+        AtomicInteger attempts = new AtomicInteger();
+        duringFlush = () -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+        };
+
+        likeCounter.flush();
+
+        // 반영 도중 실패하면 flushing 이 남아 있고, 그 사이의 새 변경분은 pending 에 쌓임
+        assertThat(redisTemplate.hasKey("like:pending:flushing")).isTrue();
+        likeCounter.toggle(POST_ID, 13L);
+
+        likeCounter.flush();
+
+        assertThat(captureBatch("INSERT")).extracting(row -> row[1]).containsExactly(12L);
+        assertThat(redisTemplate.hasKey("like:pending:flushing")).isFalse();
+        assertThat(redisTemplate.opsForHash().hasKey("like:pending", "1:13")).isTrue();
+
+        likeCounter.flush();
+
+        assertThat(redisTemplate.hasKey("like:pending")).isFalse();
+        assertThat(redisTemplate.getExpire(POST_KEY)).isPositive();
+    }
+
+    @Test
+    void skipsFlushWhileAnotherInstanceHoldsLock() {
+        likeCounter.toggle(POST_ID, 12L);
+        redisTemplate.opsForValue().set("like:flush:lock", "other");
+
+        likeCounter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(redisTemplate.opsForValue().get("like:flush:lock")).isEqualTo("other");
+    }
+
+    @Test
+    void doesNotReleaseLockTakenAfterExpiry() {
+        likeCounter.toggle(POST_ID, 12L);
+        duringFlush = () -> redisTemplate.opsForValue().set("like:flush:lock", "other");
+
+        likeCounter.flush();
+
+        assertThat(redisTemplate.opsForValue().get("like:flush:lock")).isEqualTo("other");
+    }
+
+    @Test
+    void reconcileFlushesLeftoversAndRemovesLegacyKeys() {
+        likeCounter.toggle(POST_ID, 12L);
+        redisTemplate.opsForHash().put("like:count", "1", "2");
+        redisTemplate.opsForSet().add("like:users:1", "10", "11");
+
+        likeCounter.reconcile();
+
+        assertThat(captureBatch("INSERT")).hasSize(1);
+        assertThat(redisTemplate.hasKey("like:count")).isFalse();
+        assertThat(redisTemplate.hasKey("like:users:1")).isFalse();
+        assertThat(redisTemplate.hasKey("like:flush:lock")).isFalse();
+    }
+
+    @Test
+    void evictWaitsForCommit() {
+        likeCounter.isLiked(POST_ID, 10L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            likeCounter.evict(POST_ID);
+            assertThat(redisTemplate.hasKey(POST_KEY)).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(redisTemplate.hasKey(POST_KEY)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(String statement) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(statement), captor.capture());
+        return captor.getValue();
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.complete.todayspace.domain.payment.service;
+
+import com.complete.todayspace.domain.payment.dto.PaymentInfoRequestDto;
+import com.complete.todayspace.domain.payment.entity.Payment;
+import com.complete.todayspace.domain.payment.entity.State;
+import com.complete.todayspace.domain.payment.repository.PaymentRepository;
+import com.complete.todayspace.domain.product.entity.Product;
+import com.complete.todayspace.domain.product.service.ProductDetailCache;
+import com.complete.todayspace.domain.user.entity.User;
+import com.complete.todayspace.global.exception.CustomException;
+import com.complete.todayspace.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private PaymentRepository paymentRepository;
+    private ProductDetailCache productDetailCache;
+    private PaymentService paymentService;
+    private PaymentInfoRequestDto requestDto;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        productDetailCache = mock(ProductDetailCache.class);
+        paymentService = new PaymentService(mock(RestTemplate.class), paymentRepository, productDetailCache);
+
+        requestDto = mock(PaymentInfoRequestDto.class);
+        when(requestDto.getProductId()).thenReturn(PRODUCT_ID);
+        when(requestDto.getTotal_amount()).thenReturn(10000L);
+
+        product = mock(Product.class);
+        when(product.getId()).thenReturn(PRODUCT_ID);
+    }
+
+    @Test
+    void concurrentDuplicateReservationIsCompletedPayment() throws Exception {
+        // 두 요청 모두 존재 확인을 통과한 뒤 product_id unique 제약에서 한쪽만 성공
+        CyclicBarrier bothChecked = new CyclicBarrier(2);
+        AtomicBoolean saved = new AtomicBoolean();
+
+        when(paymentRepository.existsByProductId(PRODUCT_ID)).thenAnswer(invocation -> {
+            bothChecked.await(5, TimeUnit.SECONDS);
+            return false;
+        });
+        when(paymentRepository.saveAndFlush(any(Payment.class))).thenAnswer(invocation -> {
+            if (!saved.compareAndSet(false, true)) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            return invocation.getArgument(0);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ErrorCode> first = executor.submit(() -> reserve(mock(User.class)));
+            Future<ErrorCode> second = executor.submit(() -> reserve(mock(User.class)));
+
+            assertThat(Arrays.asList(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS)))
+                .containsExactlyInAnyOrder(null, ErrorCode.COMPLATED_PAYMENT);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reservedProductIsCompletedPayment() {
+        when(paymentRepository.existsByProductId(PRODUCT_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> paymentService.reservePayment(mock(User.class), requestDto, product))
+            .isInstanceOf(CustomException.class)
+            .extracting(e -> ((CustomException) e).getErrorCode())
+            .isEqualTo(ErrorCode.COMPLATED_PAYMENT);
+        verify(paymentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void releaseStaleReservations() {
+        when(paymentRepository.findStaleReservedProductIds(eq(State.PROGRESS), any(LocalDateTime.class)))
+            .thenReturn(List.of(PRODUCT_ID));
+        when(paymentRepository.deleteStaleReservations(eq(State.PROGRESS), any(LocalDateTime.class))).thenReturn(1);
+
+        paymentService.releaseStaleReservations();
+
+        verify(paymentRepository).deleteStaleReservations(eq(State.PROGRESS), any(LocalDateTime.class));
+        verify(productDetailCache).evict(List.of(PRODUCT_ID));
+    }
+
+    @Test
+    void skipDeleteWithoutStaleReservations() {
+        when(paymentRepository.findStaleReservedProductIds(eq(State.PROGRESS), any(LocalDateTime.class)))
+            .thenReturn(List.of());
+
+        paymentService.releaseStaleReservations();
+
+        verify(paymentRepository, never()).deleteStaleReservations(any(), any());
+        verify(productDetailCache, never()).evict(anyCollection());
+    }
+
+    private ErrorCode reserve(User user) {
+        try {
+            paymentService.reservePayment(user, requestDto, product);
+            return null;
+        } catch (CustomException e) {
+            return e.getErrorCode();
+        }
+    }
+
+}
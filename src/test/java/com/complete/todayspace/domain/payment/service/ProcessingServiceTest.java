@@ -0,0 +1,86 @@
+package com.complete.todayspace.domain.payment.service;
+
+import com.complete.todayspace.domain.payment.dto.PaymentInfoRequestDto;
+import com.complete.todayspace.domain.payment.dto.ReadyResponseDto;
+import com.complete.todayspace.domain.product.entity.Product;
+import com.complete.todayspace.domain.product.service.ProductService;
+import com.complete.todayspace.domain.user.entity.User;
+import com.complete.todayspace.global.exception.CustomException;
+import com.complete.todayspace.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProcessingServiceTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Long PAYMENT_ID = 7L;
+
+    private PaymentService paymentService;
+    private ProcessingService processingService;
+    private User user;
+    private PaymentInfoRequestDto requestDto;
+
+    @BeforeEach
+    void setUp() {
+        ProductService productService = mock(ProductService.class);
+        paymentService = mock(PaymentService.class);
+        processingService = new ProcessingService(productService, paymentService);
+
+        user = mock(User.class);
+        requestDto = mock(PaymentInfoRequestDto.class);
+        when(requestDto.getProductId()).thenReturn(PRODUCT_ID);
+
+        Product product = mock(Product.class);
+        when(productService.findByProduct(PRODUCT_ID)).thenReturn(product);
+        when(paymentService.reservePayment(user, requestDto, product)).thenReturn(PAYMENT_ID);
+    }
+
+    @Test
+    void confirmReadyWithTid() {
+        ReadyResponseDto kakaoReady = mock(ReadyResponseDto.class);
+        when(kakaoReady.getTid()).thenReturn("T1234");
+        when(paymentService.requestReady(user, requestDto)).thenReturn(kakaoReady);
+
+        assertThat(processingService.preparePayment(user, requestDto)).isSameAs(kakaoReady);
+
+        verify(paymentService).confirmReady(PAYMENT_ID, "T1234");
+        verify(paymentService, never()).releasePayment(any());
+    }
+
+    @Test
+    void providerFailureReleasesReservation() {
+        when(paymentService.requestReady(user, requestDto)).thenThrow(new CustomException(ErrorCode.INVALID_REQUEST));
+
+        assertThatThrownBy(() -> processingService.preparePayment(user, requestDto))
+            .isInstanceOf(CustomException.class);
+
+        verify(paymentService, never()).confirmReady(anyLong(), anyString());
+        verify(paymentService).releasePayment(PAYMENT_ID);
+    }
+
+    @Test
+    void confirmFailureReleasesReservation() {
+        ReadyResponseDto kakaoReady = mock(ReadyResponseDto.class);
+        when(kakaoReady.getTid()).thenReturn("T1234");
+        when(paymentService.requestReady(user, requestDto)).thenReturn(kakaoReady);
+        doThrow(new QueryTimeoutException("timeout")).when(paymentService).confirmReady(PAYMENT_ID, "T1234");
+
+        assertThatThrownBy(() -> processingService.preparePayment(user, requestDto))
+            .isInstanceOf(QueryTimeoutException.class);
+
+        verify(paymentService).releasePayment(PAYMENT_ID);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.complete.todayspace.domain.product.service;
+
+import com.complete.todayspace.domain.product.dto.ProductDetailResponseDto;
+import com.complete.todayspace.domain.product.entity.Address;
+import com.complete.todayspace.domain.product.entity.State;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductDetailCacheTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final String DETAIL_KEY = "product:detail:1";
+
+    // Lua 스크립트(버전 비교 후 저장 / 버전 증가 후 삭제)를 흉내 내는 메모리 저장소
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    private ProductDetailCache productDetailCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+
+        doAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+
+            if (args.length == 3) {
+                if (!store.getOrDefault(keys.get(0), "0").equals(args[0])) {
+                    return 0L;
+                }
+                store.put(keys.get(1), args[1].toString());
+                return 1L;
+            }
+
+            for (int i = 0; i < keys.size(); i += 2) {
+                store.merge(keys.get(i), "1", (version, one) -> String.valueOf(Long.parseLong(version) + 1));
+                store.remove(keys.get(i + 1));
+            }
+            return 1L;
+        }).when(redisTemplate).execute(any(), anyList(), any(Object[].class));
+
+        productDetailCache = new ProductDetailCache(redisTemplate, new ObjectMapper().findAndRegisterModules(),
+            new SimpleMeterRegistry(), 5, 100, 600);
+    }
+
+    @Test
+    void cachesLoadedDetail() {
+        AtomicInteger loads = new AtomicInteger();
+
+        productDetailCache.get(PRODUCT_ID, () -> {
+            loads.incrementAndGet();
+            return detail(10000L, State.ON_SALE);
+        });
+        ProductDetailResponseDto cached = productDetailCache.get(PRODUCT_ID, () -> {
+            loads.incrementAndGet();
+            return detail(20000L, State.ON_SALE);
+        });
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached.getPrice()).isEqualTo(10000L);
+        assertThat(store).containsKey(DETAIL_KEY);
+    }
+
+    @Test
+    void doesNotRefillWithSnapshotLoadedBeforeEviction() {
+        // 조회가 커밋 전 값을 읽은 뒤, 변경 트랜잭션의 afterCommit 삭제가 먼저 실행되는 경우
+        ProductDetailResponseDto stale = productDetailCache.get(PRODUCT_ID, () -> {
+            ProductDetailResponseDto snapshot = detail(10000L, State.ON_SALE);
+            productDetailCache.evict(PRODUCT_ID);
+            return snapshot;
+        });
+
+        assertThat(stale.getPrice()).isEqualTo(10000L);
+        assertThat(store).doesNotContainKey(DETAIL_KEY);
+
+        AtomicInteger loads = new AtomicInteger();
+        ProductDetailResponseDto fresh = productDetailCache.get(PRODUCT_ID, () -> {
+            loads.incrementAndGet();
+            return detail(8000L, State.SOLD_OUT);
+        });
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(fresh.getPrice()).isEqualTo(8000L);
+        assertThat(fresh.getState()).isEqualTo(State.SOLD_OUT);
+        assertThat(productDetailCache.get(PRODUCT_ID, () -> detail(0L, State.ON_SALE)).getPrice()).isEqualTo(8000L);
+    }
+
+    @Test
+    void evictRemovesCachedDetail() {
+        productDetailCache.get(PRODUCT_ID, () -> detail(10000L, State.ON_SALE));
+
+        productDetailCache.evict(PRODUCT_ID);
+
+        assertThat(store).doesNotContainKey(DETAIL_KEY);
+        assertThat(productDetailCache.get(PRODUCT_ID, () -> detail(9000L, State.ON_SALE)).getPrice()).isEqualTo(9000L);
+    }
+
+    private ProductDetailResponseDto detail(Long price, State state) {
+        return new ProductDetailResponseDto(PRODUCT_ID, 2L, "seller", "profile.png", price, "의자", "내용",
+            Address.SEOUL, state, LocalDateTime.now(), List.of(), state == State.SOLD_OUT, null);
+    }
+
+}
@@ -0,0 +1,261 @@
+package com.complete.todayspace.global.client;
+
+import com.complete.todayspace.global.config.RestTemplateConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerInterceptorTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 300;
+    private static final long CONNECT_TIMEOUT_MS = 200;
+    private static final long READ_TIMEOUT_MS = 300;
+
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private ExecutorService executor;
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes();
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+        // 운영과 같은 커넥션 풀 / 타임아웃 설정에 짧은 값만 넣어서 사용
+        RestTemplateConfig config = new RestTemplateConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 10);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 10);
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", CONNECT_TIMEOUT_MS);
+        ReflectionTestUtils.setField(config, "readTimeoutMs", READ_TIMEOUT_MS);
+        ReflectionTestUtils.setField(config, "poolTimeoutMs", 1000L);
+        httpClient = config.httpClient();
+
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new CircuitBreakerInterceptor(FAILURE_THRESHOLD, OPEN_MILLIS));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        httpClient.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void opensAfterConsecutiveServerErrors() {
+        status.set(500);
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void rejectsWithoutCallingWhileOpen() {
+        status.set(500);
+        open();
+
+        status.set(200);
+
+        assertThatThrownBy(this::call)
+            .isInstanceOf(ResourceAccessException.class)
+            .hasCauseInstanceOf(CircuitOpenException.class);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        status.set(500);
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        status.set(200);
+        call();
+
+        status.set(500);
+        assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+
+        // 연속 실패가 아니므로 아직 열리지 않음
+        status.set(200);
+        assertThat(call().getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void allowsSingleTrialCallAfterOpenPeriod() throws Exception {
+        status.set(500);
+        open();
+        Thread.sleep(OPEN_MILLIS + 100);
+
+        status.set(200);
+        release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<String>> trial = CompletableFuture.supplyAsync(this::call, executor);
+        awaitHits(FAILURE_THRESHOLD + 1);
+
+        // 시험 호출이 끝나기 전의 다른 요청은 차단
+        assertThatThrownBy(this::call)
+            .isInstanceOf(ResourceAccessException.class)
+            .hasCauseInstanceOf(CircuitOpenException.class);
+
+        release.countDown();
+        assertThat(trial.get(5, TimeUnit.SECONDS).getStatusCode().value()).isEqualTo(200);
+
+        // 시험 호출이 성공하면 닫힘
+        assertThat(call().getStatusCode().value()).isEqualTo(200);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD + 2);
+    }
+
+    @Test
+    void failedTrialCallReopens() throws Exception {
+        status.set(500);
+        open();
+        Thread.sleep(OPEN_MILLIS + 100);
+
+        assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+
+        assertThatThrownBy(this::call)
+            .isInstanceOf(ResourceAccessException.class)
+            .hasCauseInstanceOf(CircuitOpenException.class);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD + 1);
+    }
+
+    @Test
+    void readTimeoutCountsAsFailure() {
+        release = new CountDownLatch(1);
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            long start = System.nanoTime();
+
+            assertThatThrownBy(this::call)
+                .isInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(InterruptedIOException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(READ_TIMEOUT_MS * 5);
+        }
+
+        assertThatThrownBy(this::call).hasCauseInstanceOf(CircuitOpenException.class);
+        assertThat(hits.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void connectTimeoutCountsAsFailure() throws IOException {
+        // accept 하지 않는 소켓의 backlog 를 채워서 이후 연결이 맺어지지 않도록 함
+        try (ServerSocket unresponsive = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+
+            List<Socket> backlog = fillBacklog(unresponsive);
+            String unresponsiveUrl = "http://127.0.0.1:" + unresponsive.getLocalPort() + "/";
+
+            try {
+                for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+                    long start = System.nanoTime();
+
+                    assertThatThrownBy(() -> restTemplate.getForEntity(unresponsiveUrl, String.class))
+                        .isInstanceOf(ResourceAccessException.class)
+                        .hasRootCauseInstanceOf(InterruptedIOException.class);
+                    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                        .isLessThan(CONNECT_TIMEOUT_MS * 5);
+                }
+
+                assertThatThrownBy(() -> restTemplate.getForEntity(unresponsiveUrl, String.class))
+                    .hasCauseInstanceOf(CircuitOpenException.class);
+            } finally {
+                for (Socket socket : backlog) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    private ResponseEntity<String> call() {
+        return restTemplate.getForEntity(url, String.class);
+    }
+
+    private void open() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(HttpServerErrorException.class);
+        }
+    }
+
+    private void awaitHits(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (hits.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(hits.get()).isEqualTo(expected);
+    }
+
+    private List<Socket> fillBacklog(ServerSocket serverSocket) throws IOException {
+
+        List<Socket> sockets = new ArrayList<>();
+
+        for (int i = 0; i < 16; i++) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()),
+                    (int) CONNECT_TIMEOUT_MS);
+                sockets.add(socket);
+            } catch (SocketTimeoutException e) {
+                socket.close();
+                return sockets;
+            }
+        }
+
+        throw new IllegalStateException("backlog 를 채우지 못했습니다.");
+    }
+
+}